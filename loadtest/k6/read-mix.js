@@ -0,0 +1,48 @@
+// 플랫폼 스레드(기본) vs 가상 스레드(vthreads 프로파일) 비교용 부하 스크립트
+//
+// 실행 예:
+//   k6 run -e BASE_URL=http://localhost:8080 -e USERNAME=loadtest -e PASSWORD=password1234 \
+//          -e GROUP_ID=1 -e VUS=5000 loadtest/k6/read-mix.js
+//
+// 같은 DB/Redis, 같은 Hikari 풀 크기로 두 모드를 번갈아 실행하고
+// http_reqs(처리량), http_req_duration p(99), http_req_failed 를 비교한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const GROUP_ID = __ENV.GROUP_ID || '1';
+const VUS = parseInt(__ENV.VUS || '5000', 10);
+
+export const options = {
+    scenarios: {
+        read_mix: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ username: __ENV.USERNAME, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return { token: res.json('accessToken') };
+}
+
+export default function (data) {
+    const params = { headers: { Authorization: `Bearer ${data.token}` } };
+    const responses = http.batch([
+        ['GET', `${BASE_URL}/api/me/groups`, null, params],
+        ['GET', `${BASE_URL}/api/groups/${GROUP_ID}`, null, params],
+        ['GET', `${BASE_URL}/api/groups/${GROUP_ID}/schedules`, null, params],
+    ]);
+    responses.forEach((r) => check(r, { 'status 2xx': (x) => x.status >= 200 && x.status < 300 }));
+}
@@ -6,6 +6,7 @@ import com.gatieottae.backend.api.auth.dto.UpdateMeRequestDto;
 import com.gatieottae.backend.security.jwt.JwtTokenProvider;
 import com.gatieottae.backend.service.auth.AuthService;
 import com.gatieottae.backend.service.auth.MeService;
+import com.gatieottae.backend.service.auth.RefreshTokenService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -34,6 +35,7 @@ public class AuthController {
     private final AuthService authService;
     private final JwtTokenProvider jwtTokenProvider;
     private final MeService meService;
+    private final RefreshTokenService refreshTokenService;
 
     @Operation(
             summary = "회원가입",
@@ -72,7 +74,7 @@ public class AuthController {
 
     @Operation(
             summary = "토큰 재발급",
-            description = "유효한 refreshToken으로 새 accessToken을 발급합니다. (v1: refresh 회전 없음)"
+            description = "유효한 refreshToken으로 새 access/refresh 토큰을 발급합니다. 사용한 refreshToken은 폐기되며, 다시 쓰면 같은 로그인의 토큰 전체가 폐기됩니다."
     )
     @ApiResponse(
             responseCode = "200",
@@ -85,7 +87,7 @@ public class AuthController {
     public ResponseEntity<RefreshDto.RefreshResponse> refresh(
             @Valid @RequestBody RefreshDto.RefreshRequest request
     ) {
-        // 서비스에서 검증/조회/상태 체크 후 새 Access 발급 (Refresh는 v1에서 회전하지 않음)
+        // 서비스에서 검증/상태 체크/회전 후 새 Access + Refresh 발급
         LoginDto.LoginResponse svc = authService.refresh(request.getRefreshToken());
 
         // 컨트롤러 응답 스펙(RefreshDto)으로 변환
@@ -96,6 +98,18 @@ public class AuthController {
         return ResponseEntity.ok(body);
     }
 
+    @Operation(
+            summary = "로그아웃",
+            description = "refreshToken 이 속한 로그인(패밀리)을 폐기합니다. 이후 해당 refreshToken 으로는 재발급할 수 없습니다."
+    )
+    @ApiResponse(responseCode = "204", description = "로그아웃 성공")
+    @ApiResponse(responseCode = "401", description = "refreshToken 만료/위조")
+    @PostMapping(value = "/logout", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshDto.RefreshRequest request) {
+        authService.logout(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/token")
     public ResponseEntity<
             Map<String, String>> issueTokenFromCookie(
@@ -106,7 +120,7 @@ public class AuthController {
 
         Member user = authService.getMemberById(userId);
         String access = jwtTokenProvider.generateAccessToken(user.getUsername(), user.getId());
-        String refresh = jwtTokenProvider.generateRefreshToken(user.getUsername(), user.getId());
+        String refresh = refreshTokenService.issue(user.getId(), user.getUsername());
 
         Map<String, String> body = new HashMap<>();
         body.put("accessToken", access);
@@ -7,6 +7,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.net.URI;
 import java.net.URLEncoder;
@@ -43,32 +45,37 @@ public class KakaoAuthController {
 
     /**
      * 최종 콜백: code -> token -> me -> 우리 회원 매핑 -> JWT 쿠키 -> 프론트 리다이렉트(302)
+     *
+     * Mono 를 반환하므로 카카오 호출을 기다리는 동안 Tomcat 스레드는 반납된다(비동기 서블릿).
+     * 카카오가 느리거나 죽어 있어도 요청 스레드 풀이 고갈되지 않고, 서킷이 열리면 즉시 503.
      */
     @GetMapping("/callback")
-    public ResponseEntity<Void> callback(@RequestParam("code") String code,
-                                         @RequestParam(value = "state", required = false) String state,
-                                         HttpServletResponse resp) {
-        // 1) 카카오 토큰 교환 및 사용자 조회
-        var token = kakao.exchangeToken(code);
-        var me = kakao.me(token.getAccess_token());
+    public Mono<ResponseEntity<Void>> callback(@RequestParam("code") String code,
+                                               @RequestParam(value = "state", required = false) String state,
+                                               HttpServletResponse resp) {
+        // 1) 카카오 토큰 교환 및 사용자 조회 (논블로킹)
+        return kakao.fetchUser(code)
+                // 이후 단계는 JPA/Redis 블로킹 호출 → Netty 이벤트 루프가 아닌 boundedElastic 에서 실행
+                .publishOn(Schedulers.boundedElastic())
+                .map(me -> {
+                    // 2) 우리 서비스 로그인(소셜 전용 자동가입 포함)
+                    var result = socialAuthService.loginWithKakao(
+                            me.getId(),
+                            (me.getKakao_account() != null ? me.getKakao_account().getEmail() : null),
+                            resolveNickname(me),
+                            resolveProfile(me)
+                    );
 
-        // 2) 우리 서비스 로그인(소셜 전용 자동가입 포함)
-        var result = socialAuthService.loginWithKakao(
-                me.getId(),
-                (me.getKakao_account() != null ? me.getKakao_account().getEmail() : null),
-                resolveNickname(me),
-                resolveProfile(me)
-        );
+                    // 3) JWT를 HttpOnly 쿠키로 세팅 (로컬은 Secure=false, Lax로 완화)
+                    String frontendBase = "http://localhost:5173";
+                    String redirect = frontendBase + "/auth/callback" +
+                            "?accessToken=" + result.accessToken() +
+                            "&refreshToken=" + result.refreshToken();
 
-        // 3) JWT를 HttpOnly 쿠키로 세팅 (로컬은 Secure=false, Lax로 완화)
-        String frontendBase = "http://localhost:5173";
-        String redirect = frontendBase + "/auth/callback" +
-                "?accessToken=" + result.accessToken() +
-                "&refreshToken=" + result.refreshToken();
-
-        return ResponseEntity.status(302)
-                .location(URI.create(redirect))
-                .build();
+                    return ResponseEntity.status(302)
+                            .location(URI.create(redirect))
+                            .<Void>build();
+                });
     }
 
     private static String resolveNickname(Object me) {
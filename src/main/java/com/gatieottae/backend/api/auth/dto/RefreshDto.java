@@ -6,9 +6,8 @@ import lombok.*;
 
 /**
  * 토큰 재발급(Refresh) 요청/응답 DTO
- * v1:
- *  - 유효한 refreshToken 이면 새 accessToken 만 재발급
- *  - refreshToken 은 회전하지 않고 그대로 반환 (Rotation 은 다음 단계 고려)
+ *  - 유효한 refreshToken 이면 새 accessToken + 새 refreshToken 발급 (회전)
+ *  - 사용한 refreshToken 은 폐기, 재사용 시 같은 로그인의 토큰 전체 폐기
  */
 public class RefreshDto {
 
@@ -34,7 +33,7 @@ public class RefreshDto {
         @Schema(description = "새로 발급된 액세스 토큰", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
         private final String accessToken;
 
-        @Schema(description = "기존 리프레시 토큰 (v1에서는 회전하지 않음)", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
+        @Schema(description = "새로 발급된 리프레시 토큰 (이전 토큰은 폐기)", example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
         private final String refreshToken;
 
         public static RefreshResponse of(String accessToken, String refreshToken) {
@@ -1,5 +1,7 @@
 package com.gatieottae.backend.api.expense.controller;
 
+import com.gatieottae.backend.api.expense.dto.ExpenseBatchRequestDto;
+import com.gatieottae.backend.api.expense.dto.ExpenseBatchResponseDto;
 import com.gatieottae.backend.api.expense.dto.ExpenseRequestDto;
 import com.gatieottae.backend.api.expense.dto.ExpenseResponseDto;
 import com.gatieottae.backend.service.expense.ExpenseService;
@@ -39,6 +41,13 @@ public class ExpenseController {
         return ResponseEntity.ok(expenseService.createExpense(withGroupId(request, groupId)));
     }
 
+    @Operation(summary = "그룹에 지출 일괄 등록", description = "항목별 결과(CREATED/REJECTED)를 요청 순서대로 반환")
+    @PostMapping("/groups/{groupId}/expenses/batch")
+    public ResponseEntity<ExpenseBatchResponseDto> createBatchUnderGroup(@PathVariable Long groupId,
+                                                                         @RequestBody ExpenseBatchRequestDto request) {
+        return ResponseEntity.ok(expenseService.createExpenses(groupId, request));
+    }
+
     @Operation(summary = "지출 단건 조회")
     @GetMapping("/groups/{groupId}/expenses/{id}")
     public ResponseEntity<ExpenseResponseDto> get(@PathVariable Long groupId, @PathVariable Long id) {
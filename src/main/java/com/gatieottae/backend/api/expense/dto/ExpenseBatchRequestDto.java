@@ -0,0 +1,14 @@
+package com.gatieottae.backend.api.expense.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ExpenseBatchRequestDto {
+
+    @Schema(description = "일괄 등록할 지출 목록 (최대 500건, groupId 는 경로 값으로 덮어씀)")
+    private List<ExpenseRequestDto> items;
+}
@@ -0,0 +1,31 @@
+package com.gatieottae.backend.api.expense.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 지출 일괄 등록 결과
+ * - items 는 요청 순서(index)와 1:1 대응
+ * - 검증 실패 건은 REJECTED + 사유, 나머지는 한 트랜잭션으로 저장 후 CREATED + id
+ */
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor @Builder
+public class ExpenseBatchResponseDto {
+
+    private int requested;
+    private int created;
+    private int rejected;
+    private List<Item> items;
+
+    public enum Result { CREATED, REJECTED }
+
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class Item {
+        private int index;
+        private Result result;
+        private Long id;        // CREATED 일 때만
+        private String reason;  // REJECTED 일 때만
+    }
+}
@@ -2,12 +2,14 @@ package com.gatieottae.backend.api.group.dto;
 
 import lombok.Builder;
 import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Value
 @Builder
+@Jacksonized // 캐시(JSON) 역직렬화용
 public class GroupDetailResponseDto {
     Long id;
     String name;
@@ -21,6 +23,7 @@ public class GroupDetailResponseDto {
 
     @Value
     @Builder
+    @Jacksonized
     public static class MemberDto {
         Long id;
         String displayName; // nickname 우선, 없으면 name
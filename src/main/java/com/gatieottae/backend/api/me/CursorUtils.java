@@ -17,6 +17,12 @@ public final class CursorUtils {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
     }
 
+    /** 송금 원장용: createdDesc|{ISO-8601 created_at}|{id} */
+    public static String encodeCreatedAt(String sortParam, String isoDateTime, long id){
+        String raw = sortParam + "|" + isoDateTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
     public static Decoded decode(String cursor){
         try{
             String s = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
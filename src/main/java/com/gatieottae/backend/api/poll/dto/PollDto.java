@@ -36,7 +36,8 @@ public class PollDto {
             String status,
             OffsetDateTime closesAt,
             List<OptionResult> options,
-            @Schema(description="내가 이 투표에 이미 참여했는지") boolean voted
+            @Schema(description="내가 이 투표에 이미 참여했는지") boolean voted,
+            @Schema(description="단독 1위 옵션 ID (마감 후에만, 무투표/공동 1위면 null)") Long winnerOptionId
     ) {
         public record OptionResult(
                 Long optionId,
@@ -65,6 +66,8 @@ public class PollDto {
             Integer totalVoters,
             @Schema(description = "내가 선택한 옵션 ID (없으면 null)", example = "101")
             Long myVoteOptionId,
+            @Schema(description = "단독 1위 옵션 ID (마감 후에만, 무투표/공동 1위면 null)", example = "101")
+            Long winnerOptionId,
             @Schema(description = "선택지 집계")
             List<OptionResult> options
     ) {
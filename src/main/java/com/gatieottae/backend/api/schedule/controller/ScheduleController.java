@@ -84,6 +84,19 @@ public class ScheduleController {
         return ResponseEntity.ok(items);
     }
 
+    @Operation(
+            summary = "겹침 클러스터 조회",
+            description = "기간 내에서 서로 이어서 겹치는 일정 묶음(2개 이상)을 반환합니다. 규칙: `end > from` AND `start < to`"
+    )
+    @GetMapping("/overlaps")
+    public ResponseEntity<List<ScheduleDto.OverlapCluster>> overlaps(
+            @PathVariable Long groupId,
+            @RequestParam OffsetDateTime from,
+            @RequestParam OffsetDateTime to
+    ) {
+        return ResponseEntity.ok(scheduleService.overlapClusters(groupId, from, to));
+    }
+
     @Operation(
             summary = "일정 생성",
             description = """
@@ -0,0 +1,53 @@
+package com.gatieottae.backend.api.schedule.controller;
+
+import com.gatieottae.backend.service.schedule.ScheduleFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+
+@Tag(name = "Schedule", description = "그룹 일정 API")
+@RestController
+@RequiredArgsConstructor
+public class ScheduleFeedController {
+
+    private static final String TEXT_CALENDAR = "text/calendar; charset=UTF-8";
+
+    private final ScheduleFeedService feedService;
+
+    @Operation(
+            summary = "그룹 일정 iCalendar 피드",
+            description = """
+            그룹의 전체 일정을 RFC 5545(.ics) 형식으로 내려줍니다.
+
+            - `If-None-Match` / `If-Modified-Since` 를 보내면 변경이 없을 때 304 (본문 없음)
+            - ETag 는 가장 최근 일정 수정 시각과 일정 수로 계산
+            """
+    )
+    @GetMapping(value = "/api/groups/{groupId}/schedules.ics", produces = "text/calendar")
+    public void ics(@PathVariable Long groupId,
+                    HttpServletRequest request,
+                    HttpServletResponse response) throws IOException {
+        var version = feedService.version(groupId);
+
+        // 조건부 GET: 일치하면 304 + 헤더만 설정하고 종료
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(version.etag(), version.lastModified())) {
+            return;
+        }
+
+        response.setContentType(TEXT_CALENDAR);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache"); // 매번 재검증(대부분 304)
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"group-" + groupId + ".ics\"");
+
+        feedService.writeIcs(groupId, response.getWriter());
+    }
+}
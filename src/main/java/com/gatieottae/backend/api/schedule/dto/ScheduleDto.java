@@ -83,6 +83,16 @@ public class ScheduleDto {
         ) {}
     }
 
+    @Schema(name = "ScheduleOverlapCluster", description = "서로 이어서 겹치는 일정 묶음")
+    public record OverlapCluster(
+            @Schema(description = "묶음 시작(가장 이른 시작)")
+            OffsetDateTime startTime,
+            @Schema(description = "묶음 끝(가장 늦은 종료)")
+            OffsetDateTime endTime,
+            @Schema(description = "구성 일정 ID (시작 시각 순)", example = "[12,45,46]")
+            List<Long> scheduleIds
+    ) {}
+
     public record UpdateReq(
             String title,
             String description,
@@ -1,6 +1,8 @@
 package com.gatieottae.backend.api.transfer.controller;
 
+import com.gatieottae.backend.api.me.dto.CursorPageResponse;
 import com.gatieottae.backend.api.transfer.dto.*;
+import com.gatieottae.backend.domain.expense.TransferStatus;
 import com.gatieottae.backend.security.auth.LoginMember;
 import com.gatieottae.backend.service.transfer.TransferService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -35,9 +37,10 @@ public class TransferController {
             @AuthenticationPrincipal(expression = "id") Long actorMemberId,
             @RequestParam Long groupId,
             @PathVariable Long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody(required = false) TransferActionRequestDto body
     ) {
-        return ResponseEntity.ok(transferService.markSent(groupId, id, actorMemberId, body));
+        return ResponseEntity.ok(transferService.markSent(groupId, id, actorMemberId, body, idempotencyKey));
     }
 
     @Operation(summary = "받았어요(확인)")
@@ -46,9 +49,10 @@ public class TransferController {
             @AuthenticationPrincipal(expression = "id") Long actorMemberId,
             @RequestParam Long groupId,
             @PathVariable Long id,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody(required = false) TransferActionRequestDto body
     ) {
-        return ResponseEntity.ok(transferService.confirm(groupId, id, actorMemberId, body));
+        return ResponseEntity.ok(transferService.confirm(groupId, id, actorMemberId, body, idempotencyKey));
     }
 
     @Operation(summary = "송금 롤백")
@@ -57,6 +61,7 @@ public class TransferController {
             @RequestParam Long groupId,
             @PathVariable Long id,
             @AuthenticationPrincipal LoginMember loginMember,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody(required = false) TransferActionRequestDto body
     ) {
         Long actorMemberId = loginMember.getId();
@@ -64,7 +69,7 @@ public class TransferController {
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
 
         return ResponseEntity.ok(
-                transferService.rollback(groupId, id, actorMemberId, body, isAdmin)
+                transferService.rollback(groupId, id, actorMemberId, body, isAdmin, idempotencyKey)
         );
     }
 
@@ -97,4 +102,16 @@ public class TransferController {
     ) {
         return transferService.getTransfersForMember(groupId, actorMemberId);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "내 송금 원장(키셋 페이지)", description = "최신순. status=SENT,CONFIRMED 처럼 상태 필터, cursor 는 응답의 nextCursor 사용")
+    @GetMapping("/groups/{groupId}/transfers/ledger")
+    public CursorPageResponse<TransferResponseDto> getMyLedger(
+            @PathVariable Long groupId,
+            @AuthenticationPrincipal(expression = "id") Long actorMemberId,
+            @RequestParam(required = false) List<TransferStatus> status,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return transferService.getLedgerForMember(groupId, actorMemberId, status, size, cursor);
+    }
+}
@@ -11,7 +11,7 @@ import java.time.OffsetDateTime;
 public class TransferWsDto {
 
     public enum Type {
-        REQUESTED, SENT, CONFIRMED, ROLLED_BACK, NUDGE
+        REQUESTED, SENT, CONFIRMED, ROLLED_BACK, PROOF_ATTACHED, NUDGE
     }
 
     private Type type;             // 이벤트 유형
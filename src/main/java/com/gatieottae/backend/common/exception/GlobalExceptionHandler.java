@@ -5,6 +5,8 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.catalina.connector.ClientAbortException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -28,6 +30,7 @@ import static java.util.stream.Collectors.toList;
  * - 400 BAD_REQUEST       : 도메인 규칙 위반 등 일반적인 요청 오류
  * - 404 NOT_FOUND         : 리소스를 찾을 수 없음
  * - 409 CONFLICT          : 중복/상태 충돌, DB 제약 위반
+ * - 503 SERVICE_UNAVAILABLE : 일시적 과부하 (Retry-After 포함)
  * - 500 INTERNAL_ERROR    : 예기치 못한 서버 오류
  *
  * 운영 편의를 위해 예외별 로그 레벨을 구분:
@@ -104,6 +107,14 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.CONFLICT.status).body(body);
     }
 
+    // 낙관적 락(@Version) 충돌: 다른 요청이 먼저 수정함
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic lock conflict: {}", ex.getMessage());
+        ApiErrorResponse body = ApiErrorResponse.of(ErrorCode.CONFLICT, "다른 요청이 먼저 변경했습니다. 다시 시도해 주세요.", null);
+        return ResponseEntity.status(ErrorCode.CONFLICT.status).body(body);
+    }
+
     // DB 무결성 위반(유니크 키 등)
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ApiErrorResponse> handleDataIntegrity(DataIntegrityViolationException ex) {
@@ -113,6 +124,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ErrorCode.CONFLICT.status).body(body);
     }
 
+    /* ==================== 503 Service Unavailable =================== */
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+        ApiErrorResponse body = ApiErrorResponse.of(ex.code, ex.getMessage(), null);
+        return ResponseEntity.status(ex.code.status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds))
+                .body(body);
+    }
+
     /* ======================= 500 Unexpected ======================== */
 
     @ExceptionHandler(Exception.class)
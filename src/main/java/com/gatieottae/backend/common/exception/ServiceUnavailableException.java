@@ -0,0 +1,13 @@
+package com.gatieottae.backend.common.exception;
+
+/** 일시적 과부하 → 503 + Retry-After */
+public class ServiceUnavailableException extends RuntimeException {
+    public final ErrorCode code;
+    public final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.code = ErrorCode.SERVICE_UNAVAILABLE;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
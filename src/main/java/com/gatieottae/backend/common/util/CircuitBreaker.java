@@ -0,0 +1,85 @@
+package com.gatieottae.backend.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 외부 호출용 경량 서킷 브레이커 (연속 실패 횟수 기반)
+ *
+ * - CLOSED    : 정상. 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN      : openDuration 동안 호출 즉시 거절 (느린 외부 API 를 기다리며 스레드/커넥션을 쥐지 않음)
+ * - HALF_OPEN : openDuration 이 지나면 시험 호출 1건만 허용 → 성공 시 CLOSED, 실패 시 다시 OPEN
+ *
+ * 사용법: tryAcquire() 가 true 일 때만 호출하고, 결과를 onSuccess()/onFailure() 로 알린다.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, Clock.systemUTC());
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, Clock clock) {
+        if (failureThreshold < 1) throw new IllegalArgumentException("failureThreshold must be >= 1");
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+    }
+
+    /** 호출해도 되면 true. HALF_OPEN 에서는 시험 호출 1건만 통과 */
+    public synchronized boolean tryAcquire() {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (clock.millis() - openedAt < openMillis) return false;
+                state = State.HALF_OPEN;
+                trialInFlight = true;
+                return true;
+            default: // HALF_OPEN
+                if (trialInFlight) return false;
+                trialInFlight = true;
+                return true;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            consecutiveFailures = 0;
+        }
+    }
+
+    /** 결과를 판단할 수 없는 종료(호출 취소 등). 상태는 그대로 두고 시험 호출 자리만 반납 */
+    public synchronized void release() {
+        trialInFlight = false;
+    }
+
+    /** OPEN 이 풀리기까지 남은 초 (Retry-After 용, 최소 1) */
+    public synchronized long retryAfterSeconds() {
+        long remain = openMillis - (clock.millis() - openedAt);
+        return Math.max(1, (remain + 999) / 1000);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,129 @@
+package com.gatieottae.backend.common.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 정적 구간 트리 (반열린 구간 [start, end))
+ *
+ * - 시작 시각으로 정렬한 배열을 암묵적 균형 BST 로 보고, 각 서브트리의 최대 end 를 보관(augmented)
+ * - 생성 O(n log n), 구간 질의 O(log n + k), 전체 겹침 쌍 O(n log n + k)
+ * - 겹침 클러스터(서로 이어지는 겹침 묶음)는 정렬 + 스윕으로 O(n log n)
+ * - 생성 후 불변. 일괄 등록/달력 목록처럼 한 번 만들고 여러 번 묻는 용도
+ *
+ * @param <T> 구간에 붙는 값 (예: Schedule)
+ */
+public final class IntervalTree<T> {
+
+    /** 구간 + 값 */
+    public record Entry<T>(long start, long end, T value) {
+        boolean overlaps(long qs, long qe) {
+            return start < end && start < qe && qs < end;
+        }
+    }
+
+    /** 겹침 클러스터: 묶음의 전체 범위 + 구성원 (start 순) */
+    public record Cluster<T>(long start, long end, List<T> members) {}
+
+    /** 겹치는 두 값 (a 가 먼저 시작) */
+    public record Pair<T>(T a, T b) {}
+
+    private final List<Entry<T>> sorted;
+    private final long[] maxEnd; // maxEnd[mid] = [lo, hi] 서브트리의 최대 end
+
+    private IntervalTree(List<Entry<T>> sorted) {
+        this.sorted = sorted;
+        this.maxEnd = new long[sorted.size()];
+        build(0, sorted.size() - 1);
+    }
+
+    /**
+     * @param startOf 값 → 시작(epoch 등 단조 증가하는 long)
+     * @param endOf   값 → 끝(제외). start 보다 작거나 같으면 길이 0 구간(겹침 없음)
+     */
+    public static <T> IntervalTree<T> of(List<T> values, Function<T, Long> startOf, Function<T, Long> endOf) {
+        List<Entry<T>> entries = new ArrayList<>(values.size());
+        for (T v : values) {
+            long s = startOf.apply(v);
+            Long e = endOf.apply(v);
+            entries.add(new Entry<>(s, (e == null || e < s) ? s : e, v));
+        }
+        entries.sort(Comparator.comparingLong((Entry<T> en) -> en.start).thenComparingLong(en -> en.end));
+        return new IntervalTree<>(entries);
+    }
+
+    public int size() {
+        return sorted.size();
+    }
+
+    /** [qs, qe) 와 겹치는 값 (start 순) */
+    public List<T> overlapping(long qs, long qe) {
+        List<T> out = new ArrayList<>();
+        query(0, sorted.size() - 1, qs, qe, -1, out);
+        return out;
+    }
+
+    /** 서로 겹치는 모든 쌍 */
+    public List<Pair<T>> overlapPairs() {
+        List<Pair<T>> pairs = new ArrayList<>();
+        List<T> hits = new ArrayList<>();
+        for (int i = 0; i < sorted.size(); i++) {
+            Entry<T> e = sorted.get(i);
+            hits.clear();
+            // 자기보다 뒤(정렬 순서상 i 이후)만 모아 중복 없이 한 번씩
+            query(0, sorted.size() - 1, e.start, e.end, i, hits);
+            for (T other : hits) pairs.add(new Pair<>(e.value, other));
+        }
+        return pairs;
+    }
+
+    /**
+     * 겹침 클러스터 (구성원 2개 이상만)
+     * - 정렬 순서로 훑으며 현재 묶음의 최대 end 보다 먼저 시작하면 같은 묶음
+     * - 이렇게 묶인 구성원은 모두 묶음 안의 다른 구성원과 최소 하나 이상 겹친다
+     */
+    public List<Cluster<T>> clusters() {
+        List<Cluster<T>> out = new ArrayList<>();
+        List<T> members = null;
+        long clusterStart = 0, clusterEnd = 0;
+        for (Entry<T> e : sorted) {
+            if (e.start >= e.end) continue; // 길이 0 구간은 겹침 없음
+            if (members != null && e.start < clusterEnd) {
+                members.add(e.value);
+                clusterEnd = Math.max(clusterEnd, e.end);
+                continue;
+            }
+            if (members != null && members.size() > 1) out.add(new Cluster<>(clusterStart, clusterEnd, members));
+            members = new ArrayList<>();
+            members.add(e.value);
+            clusterStart = e.start;
+            clusterEnd = e.end;
+        }
+        if (members != null && members.size() > 1) out.add(new Cluster<>(clusterStart, clusterEnd, members));
+        return out;
+    }
+
+    // ------------------------------------------------------------------
+
+    private long build(int lo, int hi) {
+        if (lo > hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        long m = Math.max(sorted.get(mid).end, Math.max(build(lo, mid - 1), build(mid + 1, hi)));
+        maxEnd[mid] = m;
+        return m;
+    }
+
+    /** minIndex 보다 큰 인덱스만 수집(-1 이면 전체) */
+    private void query(int lo, int hi, long qs, long qe, int minIndex, List<T> out) {
+        if (lo > hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] <= qs) return;               // 서브트리 전체가 질의보다 먼저 끝남
+        if (mid - 1 > minIndex) query(lo, mid - 1, qs, qe, minIndex, out);
+        Entry<T> e = sorted.get(mid);
+        if (e.start >= qe) return;                   // 오른쪽은 더 늦게 시작 → 겹칠 수 없음
+        if (mid > minIndex && e.overlaps(qs, qe)) out.add(e.value);
+        query(mid + 1, hi, qs, qe, minIndex, out);
+    }
+}
@@ -1,30 +1,50 @@
 package com.gatieottae.backend.common.util;
 
-import org.springframework.stereotype.Component;
-
 import java.security.SecureRandom;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * 초대 코드 생성기
  * - 알파벳 대문자 + 숫자 조합
  * - 길이 기본값 8자리
+ * - 공유 static SecureRandom 을 두지 않는다: 호출 측이 넘긴 인스턴스(InviteCodePool 보충 스레드 전용)
+ *   또는 스레드별 인스턴스를 사용 → 동기화 경합 없음
+ * - 바이트를 한 번에 뽑아 문자로 매핑 (252 이상은 버려 편향 없음: 252 = 36 * 7)
  */
-
-@Component
-public class InviteCodeGenerator {
+public final class InviteCodeGenerator {
 
     private static final String CHAR_POOL = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int UNBIASED_LIMIT = 256 - (256 % CHAR_POOL.length());
+    private static final ThreadLocal<SecureRandom> LOCAL_RANDOM = ThreadLocal.withInitial(SecureRandom::new);
+
+    private InviteCodeGenerator() {}
 
     public static String generate(int length) {
+        return generate(LOCAL_RANDOM.get(), length);
+    }
+
+    public static String generateDefault() {
+        return generate(8); // 기본 8자리
+    }
+
+    public static String generate(SecureRandom random, int length) {
         StringBuilder sb = new StringBuilder(length);
-        for (int i = 0; i < length; i++) {
-            sb.append(CHAR_POOL.charAt(RANDOM.nextInt(CHAR_POOL.length())));
+        byte[] buf = new byte[length + (length >> 2) + 4];
+        while (sb.length() < length) {
+            random.nextBytes(buf);
+            for (int i = 0; i < buf.length && sb.length() < length; i++) {
+                int b = buf[i] & 0xFF;
+                if (b < UNBIASED_LIMIT) sb.append(CHAR_POOL.charAt(b % CHAR_POOL.length()));
+            }
         }
         return sb.toString();
     }
 
-    public static String generateDefault() {
-        return generate(8); // 기본 8자리
+    /** 서로 다른 코드 count 개 (배치 내 중복 제거) */
+    public static Set<String> generateBatch(SecureRandom random, int count, int length) {
+        Set<String> out = new LinkedHashSet<>(count * 2);
+        while (out.size() < count) out.add(generate(random, length));
+        return out;
     }
-}
\ No newline at end of file
+}
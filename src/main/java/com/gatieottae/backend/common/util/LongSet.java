@@ -0,0 +1,84 @@
+package com.gatieottae.backend.common.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * 불변 long 집합 (정렬된 long[] + 이진 탐색)
+ *
+ * - Set&lt;Long&gt; 대비 원소당 박싱/노드 오버헤드가 없어 로컬 캐시에 오래 두기 좋다
+ * - contains O(log n), 순회는 오름차순
+ */
+public final class LongSet {
+
+    private static final LongSet EMPTY = new LongSet(new long[0]);
+
+    private final long[] values;
+
+    private LongSet(long[] sortedDistinct) {
+        this.values = sortedDistinct;
+    }
+
+    public static LongSet empty() {
+        return EMPTY;
+    }
+
+    /** null 원소는 무시, 중복은 하나로 */
+    public static LongSet of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return EMPTY;
+        return of(ids.stream().filter(v -> v != null).mapToLong(Long::longValue).toArray());
+    }
+
+    public static LongSet of(long... ids) {
+        if (ids.length == 0) return EMPTY;
+        long[] copy = ids.clone();
+        Arrays.sort(copy);
+        int n = 1;
+        for (int i = 1; i < copy.length; i++) {
+            if (copy[i] != copy[n - 1]) copy[n++] = copy[i];
+        }
+        return new LongSet(n == copy.length ? copy : Arrays.copyOf(copy, n));
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(values, id) >= 0;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    public void forEach(LongConsumer action) {
+        for (long v : values) action.accept(v);
+    }
+
+    public LongStream stream() {
+        return Arrays.stream(values);
+    }
+
+    public List<Long> toList() {
+        return stream().boxed().toList();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof LongSet other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gatieottae.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 실행 설정
+ * - transferEventExecutor: 송금 알림/브로드캐스트 전용 (커밋 이후 실행)
+ * - 큐가 가득 차면 요청 스레드로 되돌리지 않고 버린다(알림은 비핵심, 요청 지연 보호 우선).
+ * - passwordHashExecutor: BCrypt 검증/해시 전용 (CPU 코어 수만큼만 동시 실행)
+ *   큐가 가득 차면 TaskRejectedException → PasswordHasher 가 503 으로 변환
+ *   가상 스레드 모드(vthreads 프로파일)에서도 플랫폼 스레드 유지 (CPU 작업은 가상 스레드 이점이 없음)
+ * - vthreads 프로파일이면 transferEventExecutor 는 가상 스레드로 실행 (풀/큐 상한은 그대로)
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String TRANSFER_EVENT_EXECUTOR = "transferEventExecutor";
+    public static final String PASSWORD_HASH_EXECUTOR = "passwordHashExecutor";
+
+    @Bean(name = TRANSFER_EVENT_EXECUTOR)
+    public Executor transferEventExecutor(Environment environment) {
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("transfer-evt-");
+        ex.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        ex.setCorePoolSize(2);
+        ex.setMaxPoolSize(4);
+        ex.setQueueCapacity(1_000);
+        ex.setRejectedExecutionHandler((r, pool) ->
+                log.warn("[Transfers] event executor saturated, dropping notification (queue={})",
+                        pool.getQueue().size()));
+        ex.setWaitForTasksToCompleteOnShutdown(true);
+        ex.setAwaitTerminationSeconds(5);
+        ex.initialize();
+        return ex;
+    }
+
+    @Bean(name = PASSWORD_HASH_EXECUTOR)
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${auth.password.hash-queue-capacity:64}") int queueCapacity) {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ThreadPoolTaskExecutor ex = new ThreadPoolTaskExecutor();
+        ex.setThreadNamePrefix("pw-hash-");
+        ex.setCorePoolSize(threads);
+        ex.setMaxPoolSize(threads);
+        ex.setQueueCapacity(queueCapacity);
+        // 기본 AbortPolicy: 요청 스레드에서 대신 실행하지 않음 (서블릿 풀 보호)
+        ex.setWaitForTasksToCompleteOnShutdown(true);
+        ex.setAwaitTerminationSeconds(5);
+        ex.initialize();
+        return ex;
+    }
+}
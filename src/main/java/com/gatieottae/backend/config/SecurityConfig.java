@@ -1,11 +1,12 @@
 package com.gatieottae.backend.config;
 
-import com.gatieottae.backend.repository.member.MemberRepository;
+import com.gatieottae.backend.security.auth.MemberStatusCache;
 import com.gatieottae.backend.security.jwt.JwtAccessDeniedHandler;
 import com.gatieottae.backend.security.jwt.JwtAuthenticationEntryPoint;
 import com.gatieottae.backend.security.jwt.JwtAuthenticationFilter;
-import com.gatieottae.backend.security.jwt.JwtTokenProvider;
+import com.gatieottae.backend.security.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,14 +28,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberStatusCache memberStatusCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    /**
+     * BCrypt cost 는 설정값(auth.password.bcrypt-strength). 올리면 기존 해시는 다음 로그인 성공 시 재해시됨
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -53,7 +57,8 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.POST,
                         "/api/auth/signup",
                         "/api/auth/login",
-                        "/api/auth/refresh"
+                        "/api/auth/refresh",
+                        "/api/auth/logout"
                 ).permitAll()
                 .requestMatchers(
                         "/api/auth/kakao/login-url",
@@ -75,7 +80,7 @@ public class SecurityConfig {
         );
 
         http.addFilterBefore(
-                new JwtAuthenticationFilter(jwtTokenProvider, memberRepository),
+                new JwtAuthenticationFilter(verifiedTokenCache, memberStatusCache),
                 UsernamePasswordAuthenticationFilter.class
         );
 
@@ -4,12 +4,14 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
@@ -18,19 +20,40 @@ import java.util.concurrent.TimeUnit;
  * WebClient 공용 설정
  * - 타임아웃(커넥트/읽기/쓰기)
  * - 디버깅 시 용량 큰 응답을 위한 버퍼 확대 (필요 시)
+ * - 카카오 전용 커넥션 풀: 동시 연결 상한 + 대기열 상한 + 대기 시간 상한
+ *   → 카카오가 느려져도 연결/대기열이 무한정 쌓이지 않고 빠르게 실패 (oauth.kakao.http.*)
  */
 @Slf4j
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaoConnectionProvider(
+            @Value("${oauth.kakao.http.max-connections:50}") int maxConnections,
+            @Value("${oauth.kakao.http.pending-acquire-max:100}") int pendingAcquireMax,
+            @Value("${oauth.kakao.http.pending-acquire-timeout-ms:1000}") long pendingAcquireTimeoutMs) {
+        return ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))       // 상대가 먼저 끊은 유휴 연결 재사용 방지
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(60))
+                .metrics(true)                             // reactor.netty.connection.provider.* 지표
+                .build();
+    }
+
     @Bean
-    public WebClient kakaoWebClient() {
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 5_000)
-                .responseTimeout(Duration.ofSeconds(5))
+    public WebClient kakaoWebClient(
+            ConnectionProvider kakaoConnectionProvider,
+            @Value("${oauth.kakao.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${oauth.kakao.http.response-timeout-ms:3000}") long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(kakaoConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
                 .doOnConnected(conn -> conn
-                        .addHandlerLast(new ReadTimeoutHandler(5, TimeUnit.SECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(5, TimeUnit.SECONDS)));
+                        .addHandlerLast(new ReadTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS)));
 
         return WebClient.builder()
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
@@ -41,4 +64,4 @@ public class WebClientConfig {
                 )
                 .build();
     }
-}
\ No newline at end of file
+}
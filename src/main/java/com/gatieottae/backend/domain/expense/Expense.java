@@ -22,7 +22,13 @@ import java.util.List;
         })
 public class Expense {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 시퀀스 풀링(allocationSize=50): INSERT 전 ID 확보 → JDBC 배치 가능.
+     * DB 시퀀스 INCREMENT 도 50 으로 맞춰야 함(V2025_09_17_03 마이그레이션).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_seq")
+    @SequenceGenerator(name = "expense_seq", schema = "gatieottae", sequenceName = "expense_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "group_id", nullable = false)
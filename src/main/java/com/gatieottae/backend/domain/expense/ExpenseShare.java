@@ -15,7 +15,10 @@ import lombok.*;
         uniqueConstraints = @UniqueConstraint(name = "uk_expense_share_once", columnNames = {"expense_id","member_id"}))
 public class ExpenseShare {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /** 시퀀스 풀링(allocationSize=50) — Expense 와 동일한 이유 */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "expense_share_seq")
+    @SequenceGenerator(name = "expense_share_seq", schema = "gatieottae", sequenceName = "expense_share_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -9,6 +9,7 @@ import java.time.OffsetDateTime;
  * 송금(정산) 트랜잭션
  * - settlement → transfer로 전환된 테이블과 매핑
  * - 상태 머신: REQUESTED → SENT → CONFIRMED / ROLLED_BACK
+ * - 동시성: @Version 낙관적 락 + 상태 전이는 조건부 UPDATE(TransferRepository.transitionStatus)
  */
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
@@ -58,6 +59,11 @@ public class Transfer {
     @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
     private OffsetDateTime updatedAt;
 
+    /** 낙관적 락 버전 (조건부 UPDATE 에서도 +1) */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public void rollback() {
         if (this.status == TransferStatus.CONFIRMED) {
             throw new IllegalStateException("확정된 송금은 롤백할 수 없습니다.");
@@ -2,17 +2,16 @@ package com.gatieottae.backend.domain.group;
 
 import com.gatieottae.backend.api.group.dto.GroupDetailResponseDto;
 import com.gatieottae.backend.common.exception.NotFoundException;
-import com.gatieottae.backend.domain.member.Member;
+import com.gatieottae.backend.infra.redis.GroupDetailCache;
 import com.gatieottae.backend.repository.group.GroupMemberRepository;
 import com.gatieottae.backend.repository.group.GroupRepository;
-import com.gatieottae.backend.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,40 +19,45 @@ public class GroupDetailService {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final MemberRepository memberRepository;
+    private final GroupDetailCache groupDetailCache;
+    private final GroupMembershipCache membershipCache;
 
+    /**
+     * 그룹 상세 (그룹 홈)
+     * - 캐시 히트면 DB 조회 없음
+     * - 미스면 그룹 1건 + 멤버 프로젝션 1건(정렬까지 SQL) 후 캐시에 저장
+     */
+    @Transactional(readOnly = true)
     public GroupDetailResponseDto getGroupDetail(Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new NotFoundException("Group not found"));
+        GroupDetailCache.Lookup cached = groupDetailCache.get(groupId);
+        if (cached.value() != null) return cached.value();
+
+        GroupDetailResponseDto loaded = load(groupId);
+        groupDetailCache.put(groupId, cached.version(), loaded);
+        return loaded;
+    }
 
-        // 1) 그룹 멤버 로드 (memberId, role만 들어있음)
-        List<GroupMember> gms = groupMemberRepository.findAllByGroupId(groupId);
+    /** 그룹 정보/멤버 구성이 바뀐 뒤 호출 (커밋 후 무효화) */
+    public void invalidateAfterCommit(Long groupId) {
+        runAfterCommit(() -> groupDetailCache.bump(groupId));
+    }
 
-        // 2) memberId → Member 벌크 조회 후 맵핑
-        List<Long> memberIds = gms.stream().map(GroupMember::getMemberId).toList();
-        Map<Long, Member> membersById = memberRepository.findAllById(memberIds).stream()
-                .collect(Collectors.toMap(Member::getId, m -> m));
+    /** 회원 표시 이름이 바뀐 뒤 호출 → 그 회원이 속한 모든 그룹 무효화 */
+    public void invalidateForMemberAfterCommit(Long memberId) {
+        runAfterCommit(() -> membershipCache.groupIdsOf(memberId).forEach(groupDetailCache::bump));
+    }
 
-        // 3) 정렬: OWNER 우선 → displayName 알파벳 → id 오름차순
-        Comparator<GroupMember> cmp = Comparator
-                .comparing((GroupMember gm) -> gm.getRole() == GroupMember.Role.OWNER ? 0 : 1)
-                .thenComparing(gm -> {
-                    Member m = membersById.get(gm.getMemberId());
-                    String dn = getDisplayName(m);
-                    return dn == null ? "" : dn.toLowerCase();
-                })
-                .thenComparing(GroupMember::getMemberId);
+    private GroupDetailResponseDto load(Long groupId) {
+        Group group = groupRepository.findById(groupId)
+                .orElseThrow(() -> new NotFoundException("Group not found"));
 
-        List<GroupDetailResponseDto.MemberDto> members = gms.stream()
-                .sorted(cmp)
-                .map(gm -> {
-                    Member m = membersById.get(gm.getMemberId());
-                    return GroupDetailResponseDto.MemberDto.builder()
-                            .id(m.getId())
-                            .displayName(getDisplayName(m))   // nickname 우선, 없으면 name
-                            .role(gm.getRole().name())
-                            .build();
-                })
+        // 정렬(OWNER 우선 → displayName 소문자 → id)은 쿼리에서 처리
+        List<GroupDetailResponseDto.MemberDto> members = groupMemberRepository.findBriefsByGroupId(groupId).stream()
+                .map(b -> GroupDetailResponseDto.MemberDto.builder()
+                        .id(b.getId())
+                        .displayName(b.getDisplayName())   // nickname 우선, 없으면 name
+                        .role(b.getRole())
+                        .build())
                 .toList();
 
         return GroupDetailResponseDto.builder()
@@ -69,8 +73,16 @@ public class GroupDetailService {
                 .build();
     }
 
-    private String getDisplayName(Member m) {
-        String nick = m.getNickname();
-        return (nick != null && !nick.isBlank()) ? nick : m.getName();
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.gatieottae.backend.domain.group;
+
+import com.gatieottae.backend.common.util.LongSet;
+import com.gatieottae.backend.infra.redis.GroupMembershipKeys;
+import com.gatieottae.backend.repository.group.GroupMemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 그룹 멤버십 캐시 (groupId → memberIds, memberId → groupIds)
+ *
+ * - L1: 인스턴스 로컬 Caffeine, 값은 LongSet(정렬 long[])
+ * - L2: Redis SET (키 구조는 GroupMembershipKeys 참고)
+ * - 둘 다 없으면 DB 에서 읽어 L2 → L1 순으로 채운다
+ * - 가입/탈퇴 커밋 후 L2 키 삭제 + membership:invalidate 발행 → 모든 인스턴스가 L1 무효화
+ * - Redis 장애 시 DB 로 폴백 (캐시는 비핵심)
+ * - 지표: group.membership.cache{cache=members|groups, tier=local|redis, result=hit|miss}
+ *
+ * 무효화와 동시에 진행 중이던 적재가 옛 목록을 다시 써 넣을 수 있으므로 두 계층 모두 TTL 로 오차 상한을 둔다.
+ */
+@Slf4j
+@Component
+public class GroupMembershipCache implements MessageListener {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+    private static final Duration REDIS_TTL = Duration.ofMinutes(30);
+    private static final long LOCAL_MAX_ENTRIES = 50_000;
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer container;
+
+    private final Tier members;
+    private final Tier groups;
+
+    public GroupMembershipCache(GroupMemberRepository groupMemberRepository,
+                                StringRedisTemplate redis,
+                                RedisMessageListenerContainer container,
+                                MeterRegistry meterRegistry) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.redis = redis;
+        this.container = container;
+        this.members = new Tier("members", meterRegistry);
+        this.groups = new Tier("groups", meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        container.addMessageListener(this, new ChannelTopic(GroupMembershipKeys.INVALIDATE_CHANNEL));
+        log.info("[Membership] Subscribed to {}", GroupMembershipKeys.INVALIDATE_CHANNEL);
+    }
+
+    /* ================= 조회 ================= */
+
+    /** 그룹의 멤버 id 집합 */
+    public LongSet memberIdsOf(Long groupId) {
+        return members.get(groupId, GroupMembershipKeys::groupMembersKey, groupMemberRepository::findMemberIdsByGroupId);
+    }
+
+    /** 회원이 가입한 그룹 id 집합 */
+    public LongSet groupIdsOf(Long memberId) {
+        return groups.get(memberId, GroupMembershipKeys::memberGroupsKey, groupMemberRepository::findGroupIdsByMemberId);
+    }
+
+    public boolean isMember(Long groupId, Long memberId) {
+        return memberId != null && memberIdsOf(groupId).contains(memberId);
+    }
+
+    /* ================= 무효화 ================= */
+
+    /**
+     * 가입/탈퇴 반영. 트랜잭션 안이면 커밋 후에, 아니면 즉시 실행
+     * (롤백된 변경으로 캐시를 지우지 않도록)
+     */
+    public void evictAfterCommit(Long groupId, Long memberId) {
+        runAfterCommit(() -> evict(groupId, memberId));
+    }
+
+    public void evict(Long groupId, Long memberId) {
+        evictLocal(groupId, memberId);
+        try {
+            redis.delete(List.of(
+                    GroupMembershipKeys.groupMembersKey(groupId),
+                    GroupMembershipKeys.memberGroupsKey(memberId)));
+            redis.convertAndSend(GroupMembershipKeys.INVALIDATE_CHANNEL,
+                    GroupMembershipKeys.invalidateMessage(groupId, memberId));
+        } catch (Exception e) {
+            // 다른 인스턴스의 L1 은 LOCAL_TTL 후 만료
+            log.warn("[Membership] failed to evict. groupId={}, memberId={}", groupId, memberId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        try {
+            evictLocal(Long.parseLong(body.substring(0, sep)), Long.parseLong(body.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            log.warn("[Membership] bad invalidate message: {}", body, e);
+        }
+    }
+
+    private void evictLocal(Long groupId, Long memberId) {
+        members.local.invalidate(groupId);
+        groups.local.invalidate(memberId);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    /* ================= 계층 ================= */
+
+    /** 한 방향(groupId→members 또는 memberId→groups)의 L1 + L2 + 지표 */
+    private final class Tier {
+        final Cache<Long, LongSet> local;
+        final Counter localHit, localMiss, redisHit, redisMiss;
+
+        Tier(String name, MeterRegistry registry) {
+            this.local = Caffeine.newBuilder()
+                    .maximumSize(LOCAL_MAX_ENTRIES)
+                    .expireAfterWrite(LOCAL_TTL)
+                    .build();
+            this.localHit = counter(registry, name, "local", "hit");
+            this.localMiss = counter(registry, name, "local", "miss");
+            this.redisHit = counter(registry, name, "redis", "hit");
+            this.redisMiss = counter(registry, name, "redis", "miss");
+        }
+
+        LongSet get(Long id, Function<Long, String> keyOf, Function<Long, List<Long>> loader) {
+            LongSet cached = local.getIfPresent(id);
+            if (cached != null) {
+                localHit.increment();
+                return cached;
+            }
+            localMiss.increment();
+            return local.get(id, k -> loadShared(keyOf.apply(k), () -> loader.apply(k)));
+        }
+
+        private LongSet loadShared(String key, Supplier<List<Long>> db) {
+            try {
+                Set<String> cached = redis.opsForSet().members(key);
+                if (cached != null && !cached.isEmpty()) {
+                    redisHit.increment();
+                    return LongSet.of(cached.stream()
+                            .filter(v -> !GroupMembershipKeys.LOADED_MARKER.equals(v))
+                            .mapToLong(Long::parseLong)
+                            .toArray());
+                }
+                redisMiss.increment();
+            } catch (Exception e) {
+                log.warn("[Membership] redis read failed, fallback to DB. key={}", key, e);
+                return LongSet.of(db.get());
+            }
+
+            LongSet loaded = LongSet.of(db.get());
+            try {
+                redis.executePipelined((RedisCallback<Object>) conn -> {
+                    StringRedisConnection c = (StringRedisConnection) conn;
+                    String[] values = new String[loaded.size() + 1];
+                    values[0] = GroupMembershipKeys.LOADED_MARKER;
+                    int[] i = {1};
+                    loaded.forEach(v -> values[i[0]++] = String.valueOf(v));
+                    c.sAdd(key, values);
+                    c.expire(key, REDIS_TTL.toSeconds());
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("[Membership] redis write failed. key={}", key, e);
+            }
+            return loaded;
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String tier, String result) {
+        return Counter.builder("group.membership.cache")
+                .description("Group membership cache lookups")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
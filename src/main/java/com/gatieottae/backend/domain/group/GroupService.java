@@ -1,16 +1,21 @@
 package com.gatieottae.backend.domain.group;
 
+import com.gatieottae.backend.api.group.dto.GroupDetailResponseDto;
 import com.gatieottae.backend.api.group.dto.GroupRequestDto;
 import com.gatieottae.backend.api.group.dto.GroupResponseDto;
-import com.gatieottae.backend.common.util.InviteCodeGenerator;
+import com.gatieottae.backend.common.exception.NotFoundException;
 import com.gatieottae.backend.domain.group.exception.GroupErrorCode;
 import com.gatieottae.backend.domain.group.exception.GroupException;
+import com.gatieottae.backend.infra.redis.InviteCodeCache;
 import com.gatieottae.backend.repository.group.GroupMemberRepository;
 import com.gatieottae.backend.repository.group.GroupRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 스프링 트랜잭션
 
+import java.util.Optional;
+
 /**
  * 그룹 관련 비즈니스 로직
  */
@@ -20,7 +25,10 @@ public class GroupService {
 
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final InviteCodeGenerator inviteCodeGenerator;
+    private final InviteCodePool inviteCodePool;
+    private final InviteCodeCache inviteCodeCache;
+    private final GroupMembershipCache membershipCache;
+    private final GroupDetailService groupDetailService;
 
     /**
      * 새로운 그룹 생성
@@ -34,8 +42,8 @@ public class GroupService {
             throw new GroupException(GroupErrorCode.GROUP_NAME_DUPLICATED);
         }
 
-        // 초대코드만 생성 (만료/회전 없음)
-        String inviteCode = inviteCodeGenerator.generate(12);
+        // 초대코드는 미리 충돌 확인된 풀에서 꺼냄 (만료/회전 없음)
+        String inviteCode = inviteCodePool.take();
 
         Group toSave = Group.builder()
                 .name(requestDto.getName())
@@ -55,6 +63,7 @@ public class GroupService {
                 .role(GroupMember.Role.OWNER)
                 .build();
         groupMemberRepository.save(owner);
+        membershipCache.evictAfterCommit(saved.getId(), ownerId);
 
         return GroupResponseDto.builder()
                 .id(saved.getId())
@@ -67,18 +76,46 @@ public class GroupService {
                 .build();
     }
 
-    /** 초대코드로 참여 */
+    /**
+     * 초대코드로 참여
+     * - 코드 → groupId, 중복 가입 확인, 응답용 그룹 정보 모두 캐시에서 → 가입 폭주 시 Postgres 는 INSERT 만
+     * - 멤버 INSERT 는 그룹 엔티티를 읽지 않고 참조(getReferenceById)로
+     */
     @Transactional
     public GroupResponseDto joinByCode(String code, Long userId) {
-        Group group = groupRepository.findByInviteCode(code)
-                .orElseThrow(() -> new GroupException(GroupErrorCode.INVALID_CODE));
+        Long groupId = resolveInviteCode(code);
 
-        if (groupMemberRepository.existsByGroupIdAndMemberId(group.getId(), userId)) {
+        // 캐시는 가입 직후 잠깐 늦을 수 있음 → 놓친 중복은 UNIQUE(group_id, member_id) 가 막는다
+        if (membershipCache.isMember(groupId, userId)) {
             throw new GroupException(GroupErrorCode.ALREADY_MEMBER);
         }
 
-        groupMemberRepository.save(GroupMember.create(group, userId, GroupMember.Role.MEMBER));
-        return GroupResponseDto.from(group);
+        // 응답용 그룹 정보 (그룹 상세 캐시, 미스일 때만 DB). 코드가 가리키던 그룹이 없으면 잘못된 코드
+        GroupDetailResponseDto detail;
+        try {
+            detail = groupDetailService.getGroupDetail(groupId);
+        } catch (NotFoundException e) {
+            throw new GroupException(GroupErrorCode.INVALID_CODE);
+        }
+
+        try {
+            Group ref = groupRepository.getReferenceById(groupId);
+            groupMemberRepository.saveAndFlush(GroupMember.create(ref, userId, GroupMember.Role.MEMBER));
+        } catch (DataIntegrityViolationException e) {
+            throw new GroupException(GroupErrorCode.ALREADY_MEMBER);
+        }
+        membershipCache.evictAfterCommit(groupId, userId);
+        groupDetailService.invalidateAfterCommit(groupId);
+
+        return GroupResponseDto.builder()
+                .id(detail.getId())
+                .name(detail.getName())
+                .description(detail.getDescription())
+                .destination(detail.getDestination())
+                .startDate(detail.getStartDate())
+                .endDate(detail.getEndDate())
+                .inviteCode(code)
+                .build();
     }
 
     @Transactional
@@ -105,7 +142,21 @@ public class GroupService {
                 requestDto.getStartDate(),
                 requestDto.getEndDate()
         );
+        groupDetailService.invalidateAfterCommit(groupId);
 
         return GroupResponseDto.from(group);
     }
-}
\ No newline at end of file
+
+    /** 초대코드 → groupId (Redis 캐시, 없는 코드도 잠깐 캐시) */
+    private Long resolveInviteCode(String code) {
+        InviteCodeCache.Lookup cached = inviteCodeCache.get(code);
+        Long groupId = cached.groupId();
+        if (!cached.hit()) {
+            Optional<Long> found = groupRepository.findIdByInviteCode(code);
+            inviteCodeCache.put(code, found);
+            groupId = found.orElse(null);
+        }
+        if (groupId == null) throw new GroupException(GroupErrorCode.INVALID_CODE);
+        return groupId;
+    }
+}
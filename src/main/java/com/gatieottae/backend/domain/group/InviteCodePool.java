@@ -0,0 +1,78 @@
+package com.gatieottae.backend.domain.group;
+
+import com.gatieottae.backend.common.util.InviteCodeGenerator;
+import com.gatieottae.backend.repository.group.GroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 미리 발급해 둔 초대 코드 풀
+ *
+ * - 배치로 후보를 만들고 DB(UNIQUE ux_travel_group_invite_code)에 이미 있는 코드를 한 번에 걸러 적재
+ * - 그룹 생성은 큐에서 꺼내기만 함 → 요청 경로에서 난수 생성/충돌 확인 없음
+ * - 백그라운드에서 LOW_WATER 아래로 내려가면 보충, 비어 있으면 요청 스레드가 동기 보충
+ * - SecureRandom 은 refillLock 안에서만 사용 (경합 없음)
+ *
+ * 인스턴스 간에 같은 코드를 동시에 뽑을 확률은 36^12 공간에서 무시할 수준이고, 남는 경우는 UNIQUE 인덱스가 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodePool {
+
+    public static final int CODE_LENGTH = 12;
+    private static final int CAPACITY = 512;
+    private static final int LOW_WATER = 128;
+
+    private final GroupRepository groupRepository;
+
+    private final BlockingQueue<String> pool = new ArrayBlockingQueue<>(CAPACITY);
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private final SecureRandom random = new SecureRandom();
+
+    /** 사용할 초대 코드 하나 (꺼낸 코드는 다시 쓰이지 않음) */
+    public String take() {
+        String code = pool.poll();
+        if (code != null) return code;
+        refill();
+        code = pool.poll();
+        if (code == null) throw new IllegalStateException("invite code pool exhausted");
+        return code;
+    }
+
+    @Scheduled(fixedDelay = 5_000, initialDelay = 1_000)
+    void topUp() {
+        if (pool.size() >= LOW_WATER) return;
+        try {
+            refill();
+        } catch (Exception e) {
+            log.warn("[InviteCode] background refill failed. size={}", pool.size(), e);
+        }
+    }
+
+    int size() {
+        return pool.size();
+    }
+
+    private void refill() {
+        refillLock.lock();
+        try {
+            int need = pool.remainingCapacity();
+            if (need == 0) return;
+            Set<String> candidates = InviteCodeGenerator.generateBatch(random, need, CODE_LENGTH);
+            candidates.removeAll(groupRepository.findExistingInviteCodes(candidates));
+            candidates.forEach(pool::offer);
+            log.debug("[InviteCode] refilled. added={}, size={}", candidates.size(), pool.size());
+        } finally {
+            refillLock.unlock();
+        }
+    }
+}
@@ -90,6 +90,7 @@ public class MyGroupsService {
         return CursorPageResponse.of(items, next);
     }
 
+    /** travel_group.status_begin / status_end 생성 컬럼(V2025_09_18_01)과 같은 규칙 */
     private static TripStatus calcStatus(LocalDate today, LocalDate start, LocalDate end){
         if (start == null && end == null) return TripStatus.BEFORE; // 보수적 처리
         LocalDate s = (start != null ? start : today);
@@ -0,0 +1,44 @@
+package com.gatieottae.backend.domain.poll;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * 마감 시점 투표 결과 스냅샷 (불변)
+ *
+ * - 마감 트랜잭션 안에서 PollResultRepository.snapshot 으로 INSERT, 이후 수정 없음
+ * - counts: optionId → 득표수 (표가 없는 옵션도 0 으로 포함)
+ * - winnerOptionId: 최다 득표 옵션. 표가 없거나 공동 1위면 null
+ */
+@Entity
+@Immutable
+@Table(name = "poll_result", schema = "gatieottae")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PollResult {
+
+    @Id
+    @Column(name = "poll_id")
+    private Long pollId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "counts", columnDefinition = "jsonb", nullable = false)
+    private Map<Long, Long> counts;
+
+    @Column(name = "total_voters", nullable = false)
+    private Integer totalVoters;
+
+    @Column(name = "winner_option_id")
+    private Long winnerOptionId;
+
+    @Column(name = "closed_at", nullable = false)
+    private OffsetDateTime closedAt;
+}
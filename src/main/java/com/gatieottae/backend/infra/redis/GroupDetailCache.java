@@ -0,0 +1,91 @@
+package com.gatieottae.backend.infra.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gatieottae.backend.api.group.dto.GroupDetailResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 그룹 상세(그룹 홈) 응답 캐시 — 버전 키 방식
+ *
+ * - group:{id}:detail:ver   (STRING) : 버전 번호. 멤버 가입/프로필 변경/그룹 수정 시 INCR
+ * - group:{id}:detail:v{n}  (STRING) : 버전 n 의 응답 JSON (TTL)
+ *
+ * 무효화는 INCR 한 번이라 값을 지울 필요가 없고(옛 버전은 TTL 로 소멸),
+ * 저장은 "읽을 때 본 버전이 아직 최신일 때만" 하므로 무효화와 겹친 적재가 옛 값을 덮어쓰지 않는다.
+ * 버전 키는 TTL 없이 유지 (만료되어 0 으로 돌아가면 남아 있던 v0 이 다시 보일 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupDetailCache {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    /** KEYS[1]=ver 키, ARGV[1]=값 키 접두사 → {ver, json|nil} */
+    private static final DefaultRedisScript<List> READ = new DefaultRedisScript<>("""
+            local v = redis.call('GET', KEYS[1]) or '0'
+            return {v, redis.call('GET', ARGV[1] .. v)}
+            """, List.class);
+
+    /** KEYS[1]=ver 키, ARGV = 접두사, 읽을 때 본 버전, json, ttl(초) */
+    private static final DefaultRedisScript<Long> WRITE = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[2] then return 0 end
+            redis.call('SET', ARGV[1] .. ARGV[2], ARGV[3], 'EX', ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    /** 조회 결과. value 가 null 이면 미스, version 이 null 이면 Redis 사용 불가(저장도 건너뜀) */
+    public record Lookup(String version, GroupDetailResponseDto value) {}
+
+    public static String versionKey(long groupId) {
+        return "group:{" + groupId + "}:detail:ver";
+    }
+
+    public static String valueKeyPrefix(long groupId) {
+        return "group:{" + groupId + "}:detail:v";
+    }
+
+    public Lookup get(Long groupId) {
+        try {
+            List<?> res = redis.execute(READ, List.of(versionKey(groupId)), valueKeyPrefix(groupId));
+            if (res == null || res.isEmpty()) return new Lookup(null, null);
+            String version = String.valueOf(res.get(0));
+            Object json = res.size() > 1 ? res.get(1) : null;
+            if (json == null) return new Lookup(version, null);
+            return new Lookup(version, om.readValue(json.toString(), GroupDetailResponseDto.class));
+        } catch (Exception e) {
+            log.warn("[GroupDetail] cache read failed. groupId={}", groupId, e);
+            return new Lookup(null, null);
+        }
+    }
+
+    public void put(Long groupId, String version, GroupDetailResponseDto value) {
+        if (version == null) return;
+        try {
+            redis.execute(WRITE, List.of(versionKey(groupId)),
+                    valueKeyPrefix(groupId), version, om.writeValueAsString(value), String.valueOf(TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("[GroupDetail] cache write failed. groupId={}", groupId, e);
+        }
+    }
+
+    /** 버전 올리기 = 기존 캐시 무효화 */
+    public void bump(Long groupId) {
+        try {
+            redis.opsForValue().increment(versionKey(groupId));
+        } catch (Exception e) {
+            // 최악의 경우 TTL 동안 옛 응답이 보인다
+            log.warn("[GroupDetail] failed to bump version. groupId={}", groupId, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.gatieottae.backend.infra.redis;
+
+/**
+ * 그룹 멤버십 캐시 Redis 키 / 채널
+ *  - membership:group:{groupId}:members  (SET) : memberId 들 + 적재 표시("0")
+ *  - membership:member:{memberId}:groups (SET) : groupId 들 + 적재 표시("0")
+ *  - membership:invalidate (Pub/Sub) : "{groupId}:{memberId}" → 각 인스턴스 로컬 캐시 무효화
+ *
+ * 빈 SET 은 Redis 에 존재할 수 없으므로 "0"(실제 id 로 쓰이지 않음)을 함께 넣어 "적재됨"을 표시한다.
+ */
+public final class GroupMembershipKeys {
+
+    public static final String LOADED_MARKER = "0";
+    public static final String INVALIDATE_CHANNEL = "membership:invalidate";
+
+    private GroupMembershipKeys() {}
+
+    public static String groupMembersKey(long groupId) {
+        return "membership:group:" + groupId + ":members";
+    }
+
+    public static String memberGroupsKey(long memberId) {
+        return "membership:member:" + memberId + ":groups";
+    }
+
+    public static String invalidateMessage(long groupId, long memberId) {
+        return groupId + ":" + memberId;
+    }
+}
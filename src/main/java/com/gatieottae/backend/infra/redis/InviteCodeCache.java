@@ -0,0 +1,59 @@
+package com.gatieottae.backend.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 초대 코드 → groupId 캐시
+ *
+ * - invite:code:{code} (STRING) : groupId, 없는 코드는 "-" (짧은 TTL, 잘못된 코드 반복 조회 차단)
+ * - 코드는 회전/만료가 없으므로 무효화 없이 TTL 로만 관리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeCache {
+
+    private static final String MISSING = "-";
+    private static final Duration TTL = Duration.ofHours(6);
+    private static final Duration MISSING_TTL = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redis;
+
+    /** 조회 결과: hit=false 면 캐시에 없음, groupId=null 이면 "없는 코드"로 캐시됨 */
+    public record Lookup(boolean hit, Long groupId) {
+        static final Lookup MISS = new Lookup(false, null);
+    }
+
+    public static String key(String code) {
+        return "invite:code:" + code;
+    }
+
+    public Lookup get(String code) {
+        try {
+            String v = redis.opsForValue().get(key(code));
+            if (v == null) return Lookup.MISS;
+            return new Lookup(true, MISSING.equals(v) ? null : Long.valueOf(v));
+        } catch (Exception e) {
+            log.warn("[InviteCode] cache read failed. code={}", code, e);
+            return Lookup.MISS;
+        }
+    }
+
+    public void put(String code, Optional<Long> groupId) {
+        try {
+            if (groupId.isPresent()) {
+                redis.opsForValue().set(key(code), String.valueOf(groupId.get()), TTL);
+            } else {
+                redis.opsForValue().set(key(code), MISSING, MISSING_TTL);
+            }
+        } catch (Exception e) {
+            log.warn("[InviteCode] cache write failed. code={}", code, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.gatieottae.backend.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표 마감 타이머 큐
+ *
+ * - poll:deadlines (ZSET) : member=pollId, score=closesAt(epoch ms)
+ * - 생성/수정 커밋 후 schedule, 수동 마감/삭제 후 cancel
+ * - 폴러가 claimDue 로 기한이 지난 id 를 꺼내 간다. 꺼내기(ZRANGEBYSCORE+ZREM)는 Lua 한 번이라
+ *   여러 인스턴스가 동시에 폴링해도 같은 poll 을 두 번 가져가지 않음
+ *
+ * 큐는 정시 마감을 위한 가속 장치일 뿐이고, 빠진 항목은 PollCloseScheduler 의 주기 스윕이 회수한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollDeadlineQueue {
+
+    public static final String KEY = "poll:deadlines";
+
+    /** KEYS[1]=zset, ARGV[1]=now(ms), ARGV[2]=limit → 꺼낸 pollId 목록 */
+    private static final DefaultRedisScript<List> CLAIM = new DefaultRedisScript<>("""
+            local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+            if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end
+            return ids
+            """, List.class);
+
+    private final StringRedisTemplate redis;
+
+    /** 마감 시각 등록/변경 (closesAt 이 없으면 큐에서 제거) */
+    public void schedule(long pollId, OffsetDateTime closesAt) {
+        try {
+            if (closesAt == null) {
+                redis.opsForZSet().remove(KEY, String.valueOf(pollId));
+            } else {
+                redis.opsForZSet().add(KEY, String.valueOf(pollId), closesAt.toInstant().toEpochMilli());
+            }
+        } catch (Exception e) {
+            // 스윕이 회수
+            log.warn("[PollDeadline] failed to schedule. pollId={}", pollId, e);
+        }
+    }
+
+    /** 여러 건 등록 (기동 시 백필용, 파이프라인) */
+    public void scheduleAll(Map<Long, OffsetDateTime> deadlines) {
+        if (deadlines.isEmpty()) return;
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            deadlines.forEach((id, at) -> c.zAdd(KEY, at.toInstant().toEpochMilli(), String.valueOf(id)));
+            return null;
+        });
+    }
+
+    public void cancel(long pollId) {
+        try {
+            redis.opsForZSet().remove(KEY, String.valueOf(pollId));
+        } catch (Exception e) {
+            log.warn("[PollDeadline] failed to cancel. pollId={}", pollId, e);
+        }
+    }
+
+    /** 마감 시각이 nowMillis 이하인 poll 을 최대 limit 건 꺼낸다 (큐에서 제거됨) */
+    public List<Long> claimDue(long nowMillis, int limit) {
+        List<?> ids = redis.execute(CLAIM, List.of(KEY), String.valueOf(nowMillis), String.valueOf(limit));
+        if (ids == null || ids.isEmpty()) return List.of();
+        return ids.stream().map(v -> Long.valueOf(String.valueOf(v))).toList();
+    }
+}
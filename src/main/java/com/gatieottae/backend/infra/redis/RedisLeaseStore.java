@@ -0,0 +1,72 @@
+package com.gatieottae.backend.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 클러스터 공용 임대(lease) 락 + 펜싱 토큰
+ *
+ * - lock:{name}        (STRING, PX) : "owner|token". 만료되면 다른 인스턴스가 가져갈 수 있음
+ * - lock:{name}:fence  (STRING)     : 획득할 때마다 INCR → 단조 증가 펜싱 토큰
+ *
+ * 갱신/해제는 값(owner|token)이 내 것일 때만 수행하므로,
+ * 임대가 만료되어 다른 인스턴스가 가져간 뒤에는 옛 소유자가 남의 락을 연장하거나 지우지 못한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseStore {
+
+    /** KEYS[1]=lock, KEYS[2]=fence, ARGV[1]=owner, ARGV[2]=ttl(ms) → 펜싱 토큰, 이미 잡혀 있으면 0 */
+    private static final DefaultRedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            local token = redis.call('INCR', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1] .. '|' .. token, 'PX', ARGV[2])
+            return token
+            """, Long.class);
+
+    /** KEYS[1]=lock, ARGV[1]=owner|token, ARGV[2]=ttl(ms) → 1 연장, 0 소유권 상실 */
+    private static final DefaultRedisScript<Long> RENEW = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** KEYS[1]=lock, ARGV[1]=owner|token → 1 해제, 0 이미 내 것이 아님 */
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public static String lockKey(String name) {
+        return "lock:{" + name + "}";
+    }
+
+    public static String fenceKey(String name) {
+        return "lock:{" + name + "}:fence";
+    }
+
+    /** 획득하면 펜싱 토큰(>0), 다른 소유자가 있으면 0 */
+    public long tryAcquire(String name, String owner, Duration ttl) {
+        Long token = redis.execute(ACQUIRE, List.of(lockKey(name), fenceKey(name)),
+                owner, String.valueOf(ttl.toMillis()));
+        return token == null ? 0 : token;
+    }
+
+    public boolean renew(String name, String owner, long token, Duration ttl) {
+        Long ok = redis.execute(RENEW, List.of(lockKey(name)), owner + "|" + token, String.valueOf(ttl.toMillis()));
+        return ok != null && ok == 1;
+    }
+
+    public boolean release(String name, String owner, long token) {
+        Long ok = redis.execute(RELEASE, List.of(lockKey(name)), owner + "|" + token);
+        return ok != null && ok == 1;
+    }
+}
@@ -0,0 +1,100 @@
+package com.gatieottae.backend.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Refresh 토큰 패밀리 저장소
+ *
+ * - auth:rt:{familyId}        (HASH) : mid, cur(현재 유효한 jti), rev("1" 이면 폐기)
+ * - auth:rt:member:{memberId} (SET)  : 회원의 패밀리 id 들 (전체 로그아웃용)
+ *
+ * 로그인 한 번 = 패밀리 하나. 재발급마다 cur 를 새 jti 로 바꾸고(회전),
+ * 이미 회전된 옛 토큰이 다시 오면 탈취로 보고 패밀리 전체를 폐기한다(재사용 탐지).
+ * 상태가 Redis 에만 있으므로 폐기는 모든 노드에 즉시 반영된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    public enum RotateResult { ROTATED, NOT_FOUND, REVOKED, REUSED }
+
+    /** KEYS[1]=패밀리, ARGV = 제시된 jti, 새 jti, ttl(ms) → 1 / 0 없음 / -1 폐기됨 / -2 재사용(폐기 처리) */
+    private static final DefaultRedisScript<Long> ROTATE = new DefaultRedisScript<>("""
+            local cur = redis.call('HGET', KEYS[1], 'cur')
+            if not cur then return 0 end
+            if redis.call('HGET', KEYS[1], 'rev') == '1' then return -1 end
+            if cur ~= ARGV[1] then
+              redis.call('HSET', KEYS[1], 'rev', '1')
+              return -2
+            end
+            redis.call('HSET', KEYS[1], 'cur', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 존재하는 패밀리만 폐기 표시 (만료된 키를 TTL 없는 해시로 되살리지 않도록) */
+    private static final DefaultRedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            redis.call('HSET', KEYS[1], 'rev', '1')
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    public static String familyKey(String familyId) {
+        return "auth:rt:" + familyId;
+    }
+
+    public static String memberKey(long memberId) {
+        return "auth:rt:member:" + memberId;
+    }
+
+    /** 새 패밀리 등록 (로그인 시) */
+    public void create(String familyId, long memberId, String tokenId, Duration ttl) {
+        redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            String fk = familyKey(familyId);
+            c.hSet(fk, "mid", String.valueOf(memberId));
+            c.hSet(fk, "cur", tokenId);
+            c.pExpire(fk, ttl.toMillis());
+            c.sAdd(memberKey(memberId), familyId);
+            c.pExpire(memberKey(memberId), ttl.toMillis());
+            return null;
+        });
+    }
+
+    /** 한 번의 왕복으로 검증 + 회전 */
+    public RotateResult rotate(String familyId, String presentedTokenId, String newTokenId, Duration ttl) {
+        Long r = redis.execute(ROTATE, List.of(familyKey(familyId)),
+                presentedTokenId, newTokenId, String.valueOf(ttl.toMillis()));
+        if (r == null) return RotateResult.NOT_FOUND;
+        return switch (r.intValue()) {
+            case 1 -> RotateResult.ROTATED;
+            case -1 -> RotateResult.REVOKED;
+            case -2 -> RotateResult.REUSED;
+            default -> RotateResult.NOT_FOUND;
+        };
+    }
+
+    /** 패밀리 폐기 (로그아웃). 키는 만료까지 남겨 두어 재사용 시도도 REVOKED 로 응답 */
+    public void revoke(String familyId) {
+        redis.execute(REVOKE, List.of(familyKey(familyId)));
+    }
+
+    /** 회원의 모든 패밀리 폐기 (전체 기기 로그아웃, 드문 작업이라 패밀리별 호출) */
+    public void revokeAll(long memberId) {
+        Set<String> families = redis.opsForSet().members(memberKey(memberId));
+        if (families == null) return;
+        for (String f : families) revoke(f);
+        redis.delete(memberKey(memberId));
+    }
+}
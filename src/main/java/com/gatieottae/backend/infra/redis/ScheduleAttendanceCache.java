@@ -0,0 +1,185 @@
+package com.gatieottae.backend.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 일정 참석 캐시 레이어 (키 구조는 ScheduleAttendanceKeys 참고)
+ *
+ * - 상태 변경은 Lua 스크립트로 원자 반영: 이전 상태 -1, 새 상태 +1, GOING 샘플 ZSET 갱신
+ *   (이전 상태는 status 해시에서 읽으므로 같은 변경이 두 번 와도 멱등)
+ * - 적재되지 않은 일정의 변경은 무시(-1) → 다음 조회 시 DB 에서 통째로 적재
+ * - 적재분은 WARM_TTL 후 만료되어 DB 에서 다시 적재 (이름 변경/경합으로 생긴 오차의 상한)
+ *   APPLY 가 새로 만든 키(GOING 0명으로 적재된 일정의 첫 GOING 등)도 counts 키의 남은 TTL 로 맞춰 함께 만료
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleAttendanceCache {
+
+    private static final Duration WARM_TTL = Duration.ofMinutes(10);
+    private static final String LOADED = "_loaded";
+
+    private static final DefaultRedisScript<Long> APPLY = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end
+            local old = redis.call('HGET', KEYS[2], ARGV[1])
+            if old == ARGV[2] then return 0 end
+            if old then redis.call('HINCRBY', KEYS[1], old, -1) end
+            redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            if ARGV[2] == 'GOING' then
+              redis.call('ZADD', KEYS[3], ARGV[3], ARGV[1])
+              redis.call('HSET', KEYS[4], ARGV[1], ARGV[4])
+            elseif old == 'GOING' then
+              redis.call('ZREM', KEYS[3], ARGV[1])
+              redis.call('HDEL', KEYS[4], ARGV[1])
+            end
+            local ttl = redis.call('PTTL', KEYS[1])
+            if ttl > 0 then
+              for i = 2, 4 do redis.call('PEXPIRE', KEYS[i], ttl) end
+            end
+            return 1
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> WARM = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('DEL', KEYS[2], KEYS[3], KEYS[4])
+            redis.call('HSET', KEYS[1], '_loaded', '1')
+            for i = 2, #ARGV, 4 do
+              local m, st = ARGV[i], ARGV[i + 1]
+              redis.call('HINCRBY', KEYS[1], st, 1)
+              redis.call('HSET', KEYS[2], m, st)
+              if st == 'GOING' then
+                redis.call('ZADD', KEYS[3], ARGV[i + 2], m)
+                redis.call('HSET', KEYS[4], m, ARGV[i + 3])
+              end
+            end
+            for i = 1, 4 do redis.call('EXPIRE', KEYS[i], ARGV[1]) end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    /* ================= 조회 ================= */
+
+    /**
+     * 적재된 일정만 요약 반환 (없는 id 는 결과 맵에 없음 → 호출 측에서 DB 적재)
+     * - 1차 파이프라인: counts / 앞에서 sampleSize 명 / 내 상태
+     * - 2차 파이프라인: 샘플 멤버 이름
+     */
+    public Map<Long, Summary> getSummaries(List<Long> scheduleIds, Long me, int sampleSize) throws DataAccessException {
+        if (scheduleIds.isEmpty()) return Map.of();
+
+        List<Object> first = redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            for (Long id : scheduleIds) {
+                c.hGetAll(ScheduleAttendanceKeys.countsKey(id));
+                c.zRange(ScheduleAttendanceKeys.goingKey(id), 0, sampleSize - 1);
+                c.hGet(ScheduleAttendanceKeys.statusKey(id), String.valueOf(me));
+            }
+            return null;
+        });
+
+        Map<Long, Map<String, Long>> counts = new LinkedHashMap<>();
+        Map<Long, List<String>> sampleIds = new LinkedHashMap<>();
+        Map<Long, String> mine = new HashMap<>();
+        for (int i = 0; i < scheduleIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> rawCounts = (Map<String, String>) first.get(i * 3);
+            if (rawCounts == null || !rawCounts.containsKey(LOADED)) continue; // 미적재
+
+            Long id = scheduleIds.get(i);
+            Map<String, Long> c = new HashMap<>();
+            rawCounts.forEach((k, v) -> { if (!LOADED.equals(k)) c.put(k, Long.parseLong(v)); });
+            counts.put(id, c);
+
+            @SuppressWarnings("unchecked")
+            Collection<String> ids = (Collection<String>) first.get(i * 3 + 1);
+            sampleIds.put(id, ids == null ? List.of() : new ArrayList<>(ids));
+            mine.put(id, (String) first.get(i * 3 + 2));
+        }
+        if (counts.isEmpty()) return Map.of();
+
+        List<Long> withSamples = sampleIds.entrySet().stream()
+                .filter(e -> !e.getValue().isEmpty()).map(Map.Entry::getKey).toList();
+        List<Object> names = withSamples.isEmpty() ? List.of() : redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            for (Long id : withSamples) {
+                c.hMGet(ScheduleAttendanceKeys.namesKey(id), sampleIds.get(id).toArray(String[]::new));
+            }
+            return null;
+        });
+        Map<Long, List<String>> namesById = new HashMap<>();
+        for (int i = 0; i < withSamples.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<String> n = (List<String>) names.get(i);
+            namesById.put(withSamples.get(i), n);
+        }
+
+        Map<Long, Summary> result = new LinkedHashMap<>();
+        counts.forEach((id, c) -> {
+            List<String> ids = sampleIds.get(id);
+            List<String> n = namesById.getOrDefault(id, List.of());
+            List<Sample> sample = new ArrayList<>(ids.size());
+            for (int k = 0; k < ids.size(); k++) {
+                sample.add(new Sample(Long.parseLong(ids.get(k)), k < n.size() ? n.get(k) : null));
+            }
+            result.put(id, new Summary(c, sample, mine.get(id)));
+        });
+        return result;
+    }
+
+    /* ================= 변경 ================= */
+
+    /** 상태 변경 반영. DB upsert 커밋 후 호출. 미적재면 무시 */
+    public void apply(long scheduleId, long memberId, String status, long joinedAtMs, String displayName) {
+        redis.execute(APPLY, keys(scheduleId),
+                String.valueOf(memberId), status, String.valueOf(joinedAtMs), displayName == null ? "" : displayName);
+    }
+
+    /** DB 에서 읽은 전체 참가자로 적재 (이미 적재돼 있으면 무시) */
+    public void warmUp(long scheduleId, List<Participant> participants) {
+        List<String> args = new ArrayList<>(1 + participants.size() * 4);
+        args.add(String.valueOf(WARM_TTL.toSeconds()));
+        for (Participant p : participants) {
+            args.add(String.valueOf(p.memberId()));
+            args.add(p.status());
+            args.add(String.valueOf(p.joinedAtMs()));
+            args.add(p.displayName() == null ? "" : p.displayName());
+        }
+        redis.execute(WARM, keys(scheduleId), args.toArray());
+    }
+
+    /** 일정 삭제 시 */
+    public void evict(long scheduleId) {
+        redis.delete(keys(scheduleId));
+    }
+
+    private static List<String> keys(long scheduleId) {
+        return List.of(
+                ScheduleAttendanceKeys.countsKey(scheduleId),
+                ScheduleAttendanceKeys.statusKey(scheduleId),
+                ScheduleAttendanceKeys.goingKey(scheduleId),
+                ScheduleAttendanceKeys.namesKey(scheduleId));
+    }
+
+    /* ================= 값 객체 ================= */
+
+    /** counts: 상태명 → 인원, sample: GOING 앞쪽 N명, myStatus: 내 상태(없으면 null) */
+    public record Summary(Map<String, Long> counts, List<Sample> sample, String myStatus) {
+        public long count(String status) {
+            return counts.getOrDefault(status, 0L);
+        }
+    }
+
+    public record Sample(long memberId, String displayName) {}
+
+    public record Participant(long memberId, String status, long joinedAtMs, String displayName) {}
+}
@@ -0,0 +1,31 @@
+package com.gatieottae.backend.infra.redis;
+
+/**
+ * 일정 참석 캐시 Redis 키
+ *  - schedule:{id}:att:counts   (HASH) : 상태별 인원 (GOING/TENTATIVE/NOT_GOING/INVITED) + 적재 표시(_loaded)
+ *  - schedule:{id}:att:status   (HASH) : memberId → 현재 상태 (증감 멱등 판정용)
+ *  - schedule:{id}:att:going    (ZSET) : GOING 멤버, score = joined_at(ms) → 샘플은 앞에서 N명
+ *  - schedule:{id}:att:names    (HASH) : GOING 멤버 표시 이름
+ *
+ * {id} 는 해시태그로 감싸 네 키가 같은 슬롯에 놓이게 함 (Lua 스크립트 원자 실행 전제)
+ */
+public final class ScheduleAttendanceKeys {
+
+    private ScheduleAttendanceKeys() {}
+
+    public static String countsKey(long scheduleId) {
+        return "schedule:{" + scheduleId + "}:att:counts";
+    }
+
+    public static String statusKey(long scheduleId) {
+        return "schedule:{" + scheduleId + "}:att:status";
+    }
+
+    public static String goingKey(long scheduleId) {
+        return "schedule:{" + scheduleId + "}:att:going";
+    }
+
+    public static String namesKey(long scheduleId) {
+        return "schedule:{" + scheduleId + "}:att:names";
+    }
+}
@@ -0,0 +1,67 @@
+package com.gatieottae.backend.infra.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gatieottae.backend.api.transfer.dto.TransferResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 송금 상태 전이 API(보냈어요/확인/롤백)의 Idempotency-Key 저장소.
+ *
+ * - 키: transfer:idem:{memberId}:{action}:{transferId}:{idempotencyKey}
+ * - 값: 처리 중이면 "PENDING", 완료되면 응답 DTO(JSON)
+ * - 같은 키로 재요청하면 저장된 응답을 그대로 돌려준다(재시도/더블탭 안전).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferIdempotencyStore {
+
+    private static final String PENDING = "PENDING";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration PENDING_TTL = Duration.ofSeconds(30);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper om;
+
+    public static String key(Long memberId, String action, Long transferId, String idempotencyKey) {
+        return "transfer:idem:" + memberId + ":" + action + ":" + transferId + ":" + idempotencyKey;
+    }
+
+    /** 선점 시도. 이미 키가 있으면 false */
+    public boolean tryBegin(String key) {
+        Boolean ok = redis.opsForValue().setIfAbsent(key, PENDING, PENDING_TTL);
+        return Boolean.TRUE.equals(ok);
+    }
+
+    /** 완료된 응답 조회. 없거나 아직 처리 중이면 empty */
+    public Optional<TransferResponseDto> findCompleted(String key) {
+        String val = redis.opsForValue().get(key);
+        if (val == null || PENDING.equals(val)) return Optional.empty();
+        try {
+            return Optional.of(om.readValue(val, TransferResponseDto.class));
+        } catch (Exception e) {
+            log.warn("[Transfers] broken idempotency record. key={}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String key, TransferResponseDto response) {
+        try {
+            redis.opsForValue().set(key, om.writeValueAsString(response), TTL);
+        } catch (Exception e) {
+            // 저장 실패 시 다음 재요청은 상태 기반 멱등 처리로 흡수된다
+            log.warn("[Transfers] failed to store idempotency record. key={}", key, e);
+            release(key);
+        }
+    }
+
+    public void release(String key) {
+        redis.delete(key);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -27,4 +28,14 @@ public class VoteBroadcastCoordinator {
         String status = (poll.getStatus() == null) ? PollStatus.OPEN.name() : poll.getStatus().name();
         publisher.publishSnapshot(poll.getId(), status, counts);
     }
-}
\ No newline at end of file
+
+    /**
+     * 일괄 마감 후처리: counts 를 읽으면서 삭제하고(파이프라인 1회), 읽은 값으로 CLOSED 스냅샷 전파(파이프라인 1회)
+     * - 삭제 전에 읽어 두므로 마감 직전 득표수가 그대로 전달된다
+     * - 캐시에 없던 poll 은 전파 생략 (broadcastCountsSnapshot 과 동일)
+     */
+    public void evictAndBroadcastClosed(List<Long> pollIds) {
+        Map<Long, Map<Long, Long>> lastCounts = cache.drainCounts(pollIds);
+        publisher.publishSnapshots(PollStatus.CLOSED.name(), lastCounts);
+    }
+}
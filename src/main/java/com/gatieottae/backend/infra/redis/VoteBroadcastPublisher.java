@@ -4,9 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gatieottae.backend.api.poll.dto.PollWsDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @Slf4j
@@ -35,4 +38,25 @@ public class VoteBroadcastPublisher {
             log.warn("failed to publish vote snapshot. pollId={}", pollId, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 poll 의 스냅샷을 한 파이프라인으로 전파 (일괄 마감용)
+     */
+    public void publishSnapshots(String status, Map<Long, Map<Long, Long>> countsByPoll) {
+        if (countsByPoll.isEmpty()) return;
+        try {
+            Map<String, String> messages = new LinkedHashMap<>();
+            for (var e : countsByPoll.entrySet()) {
+                var payload = new PollWsDto.VoteSnapshot(e.getKey(), status, e.getValue());
+                messages.put(channel(e.getKey()), om.writeValueAsString(payload));
+            }
+            redis.executePipelined((RedisCallback<Object>) conn -> {
+                StringRedisConnection c = (StringRedisConnection) conn;
+                messages.forEach(c::publish);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("failed to publish vote snapshots. polls={}", countsByPoll.keySet(), e);
+        }
+    }
+}
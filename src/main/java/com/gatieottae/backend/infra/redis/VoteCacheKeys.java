@@ -2,8 +2,8 @@ package com.gatieottae.backend.infra.redis;
 
 /**
  * Redis 키 네이밍을 한 곳에서 관리합니다.
- *  - poll:{pollId}:counts         (HASH) : 옵션별 득표수
- *  - poll:{pollId}:member:{uid}   (STRING): 특정 사용자가 고른 옵션ID
+ *  - poll:{pollId}:counts   (HASH) : 옵션별 득표수
+ *  - poll:{pollId}:choices  (HASH) : 사용자별 고른 옵션ID (field=memberId)
  */
 public final class VoteCacheKeys {
 
@@ -13,7 +13,7 @@ public final class VoteCacheKeys {
         return "poll:" + pollId + ":counts";
     }
 
-    public static String memberChoiceKey(long pollId, long memberId) {
-        return "poll:" + pollId + ":member:" + memberId;
+    public static String choicesKey(long pollId) {
+        return "poll:" + pollId + ":choices";
     }
-}
\ No newline at end of file
+}
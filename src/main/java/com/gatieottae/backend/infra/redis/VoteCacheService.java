@@ -2,6 +2,8 @@ package com.gatieottae.backend.infra.redis;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -15,12 +17,12 @@ import java.util.stream.Collectors;
  * 투표 집계 캐시 레이어.
  *
  * - counts:  H(poll:{id}:counts)   field=optionId(String), value=count(String)
- * - choice:  K(poll:{id}:member:{memberId}) -> optionId(String)
+ * - choices: H(poll:{id}:choices)  field=memberId(String), value=optionId(String)
  *
  * TTL 전략:
- * - open 상태의 poll 은 closesAt(마감시각) 기준 TTL 적용.
+ * - open 상태의 poll 은 closesAt(마감시각) 기준 TTL 적용. (counts/choices 두 해시를 같이 갱신)
  * - closesAt 없으면 보수적 기본 TTL.
- * - 마감(close) 시 counts 해시 즉시 삭제, choice 키는 TTL로 자연 만료.
+ * - 마감(close) 시 counts/choices 를 DEL 한 번으로 함께 삭제.
  */
 @Service
 @RequiredArgsConstructor
@@ -44,10 +46,8 @@ public class VoteCacheService {
     }
 
     public Long getMemberChoice(long pollId, long memberId) {
-        String key = VoteCacheKeys.memberChoiceKey(pollId, memberId);
-        String val = redis.opsForValue().get(key);
-        if (val == null) return null;
-        try { return Long.parseLong(val); } catch (NumberFormatException ignore) { return null; }
+        Object val = redis.opsForHash().get(VoteCacheKeys.choicesKey(pollId), String.valueOf(memberId));
+        return parseLongOrNull(val);
     }
 
     public Long getTtlForCounts(long pollId) {
@@ -63,12 +63,12 @@ public class VoteCacheService {
     public void applyVote(long pollId, long newOptionId, long memberId, Long previousOptionId, OffsetDateTime closesAt)
             throws DataAccessException {
         String countsKey = VoteCacheKeys.countsKey(pollId);
-        String memberKey = VoteCacheKeys.memberChoiceKey(pollId, memberId);
+        String choicesKey = VoteCacheKeys.choicesKey(pollId);
 
-        // 동일 선택이면 카운트 변화 없음. choice는 TTL과 함께 갱신, counts TTL 터치.
+        // 동일 선택이면 카운트 변화 없음. choice 기록 + TTL 터치.
         if (previousOptionId != null && previousOptionId.equals(newOptionId)) {
-            redis.opsForValue().set(memberKey, String.valueOf(newOptionId), resolveTtl(closesAt));
-            touchCountsTtl(countsKey, closesAt);
+            redis.opsForHash().put(choicesKey, String.valueOf(memberId), String.valueOf(newOptionId));
+            touchTtl(pollId, closesAt);
             return;
         }
 
@@ -77,8 +77,8 @@ public class VoteCacheService {
         }
         redis.opsForHash().increment(countsKey, String.valueOf(newOptionId), 1);
 
-        redis.opsForValue().set(memberKey, String.valueOf(newOptionId), resolveTtl(closesAt));
-        touchCountsTtl(countsKey, closesAt);
+        redis.opsForHash().put(choicesKey, String.valueOf(memberId), String.valueOf(newOptionId));
+        touchTtl(pollId, closesAt);
     }
 
     /**
@@ -86,12 +86,11 @@ public class VoteCacheService {
      */
     public void unvote(long pollId, long optionId, long memberId, OffsetDateTime closesAt) throws DataAccessException {
         String countsKey = VoteCacheKeys.countsKey(pollId);
-        String memberKey = VoteCacheKeys.memberChoiceKey(pollId, memberId);
 
         redis.opsForHash().increment(countsKey, String.valueOf(optionId), -1);
-        // 언투표는 내 선택 키 즉시 삭제
-        redis.delete(memberKey);
-        touchCountsTtl(countsKey, closesAt);
+        // 언투표는 내 선택 필드 즉시 삭제
+        redis.opsForHash().delete(VoteCacheKeys.choicesKey(pollId), String.valueOf(memberId));
+        touchTtl(pollId, closesAt);
     }
 
     /**
@@ -104,6 +103,33 @@ public class VoteCacheService {
         return Optional.of(new CachedResults(counts, my));
     }
 
+    /**
+     * 여러 poll 의 결과 캐시를 한 번에 조회 (poll 마다 HGETALL counts + HGET choices, 파이프라인 1회).
+     * @return pollId → 캐시 결과 (counts 가 없는 poll 은 제외)
+     */
+    public Map<Long, CachedResults> tryGetResults(List<Long> pollIds, long memberId) {
+        if (pollIds.isEmpty()) return Collections.emptyMap();
+
+        String member = String.valueOf(memberId);
+        List<Object> res = redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            for (Long pollId : pollIds) {
+                c.hGetAll(VoteCacheKeys.countsKey(pollId));
+                c.hGet(VoteCacheKeys.choicesKey(pollId), member);
+            }
+            return null;
+        });
+
+        Map<Long, CachedResults> cached = new HashMap<>();
+        for (int i = 0; i < pollIds.size(); i++) {
+            if (!(res.get(i * 2) instanceof Map<?, ?> raw) || raw.isEmpty()) continue;
+            Map<Long, Long> counts = new HashMap<>();
+            raw.forEach((k, v) -> counts.put(Long.parseLong(String.valueOf(k)), Long.parseLong(String.valueOf(v))));
+            cached.put(pollIds.get(i), new CachedResults(counts, parseLongOrNull(res.get(i * 2 + 1))));
+        }
+        return cached;
+    }
+
     /**
      * 캐시 워밍업. DB에서 계산한 counts와 내 선택을 캐시에 적재(+ TTL).
      */
@@ -113,21 +139,46 @@ public class VoteCacheService {
             Map<String, String> asString = new HashMap<>();
             counts.forEach((k, v) -> asString.put(String.valueOf(k), String.valueOf(v)));
             redis.opsForHash().putAll(countsKey, new HashMap<>(asString));
-            touchCountsTtl(countsKey, closesAt);
         }
         if (memberId != null && myOptionId != null) {
-            String memberKey = VoteCacheKeys.memberChoiceKey(pollId, memberId);
-            redis.opsForValue().set(memberKey, String.valueOf(myOptionId), resolveTtl(closesAt));
+            redis.opsForHash().put(VoteCacheKeys.choicesKey(pollId), String.valueOf(memberId), String.valueOf(myOptionId));
         }
+        touchTtl(pollId, closesAt);
     }
 
     /**
      * 마감 시 캐시 비움.
-     * - counts 해시만 즉시 삭제.
-     * - member choice 키는 TTL로 방치(필요 시 운영 스크립트로 패턴 정리).
+     * - counts/choices 두 해시를 DEL 한 번으로 함께 삭제 (한쪽만 남는 순간이 없음).
      */
     public void evictOnClose(long pollId) {
-        redis.delete(VoteCacheKeys.countsKey(pollId));
+        redis.delete(List.of(VoteCacheKeys.countsKey(pollId), VoteCacheKeys.choicesKey(pollId)));
+    }
+
+    /**
+     * 일괄 마감용: 각 poll 의 counts 를 읽고 곧바로 counts/choices 삭제 (HGETALL+DEL 을 한 파이프라인으로)
+     * @return pollId → 마감 직전 counts (캐시에 없던 poll 은 제외)
+     */
+    public Map<Long, Map<Long, Long>> drainCounts(List<Long> pollIds) {
+        if (pollIds.isEmpty()) return Collections.emptyMap();
+
+        List<Object> res = redis.executePipelined((RedisCallback<Object>) conn -> {
+            StringRedisConnection c = (StringRedisConnection) conn;
+            for (Long pollId : pollIds) {
+                String countsKey = VoteCacheKeys.countsKey(pollId);
+                c.hGetAll(countsKey);
+                c.del(countsKey, VoteCacheKeys.choicesKey(pollId));
+            }
+            return null;
+        });
+
+        Map<Long, Map<Long, Long>> drained = new LinkedHashMap<>();
+        for (int i = 0; i < pollIds.size(); i++) {
+            if (!(res.get(i * 2) instanceof Map<?, ?> raw) || raw.isEmpty()) continue;
+            Map<Long, Long> counts = new HashMap<>();
+            raw.forEach((k, v) -> counts.put(Long.parseLong(String.valueOf(k)), Long.parseLong(String.valueOf(v))));
+            drained.put(pollIds.get(i), counts);
+        }
+        return drained;
     }
 
     // 기존 호출 호환용 (closesAt 없이)
@@ -154,9 +205,16 @@ public class VoteCacheService {
         return Duration.ofMinutes(5);
     }
 
-    private void touchCountsTtl(String countsKey, OffsetDateTime closesAt) {
+    /** counts/choices 는 같은 TTL 로 함께 만료 (없는 키는 무시됨) */
+    private void touchTtl(long pollId, OffsetDateTime closesAt) {
         Duration ttl = resolveTtl(closesAt);
-        redis.expire(countsKey, ttl);
+        redis.expire(VoteCacheKeys.countsKey(pollId), ttl);
+        redis.expire(VoteCacheKeys.choicesKey(pollId), ttl);
+    }
+
+    private static Long parseLongOrNull(Object val) {
+        if (val == null) return null;
+        try { return Long.parseLong(String.valueOf(val)); } catch (NumberFormatException ignore) { return null; }
     }
 
     /** results() 캐시 응답 컨테이너 */
@@ -4,8 +4,11 @@ import com.gatieottae.backend.domain.expense.Expense;
 import com.gatieottae.backend.domain.expense.Transfer;
 import com.gatieottae.backend.domain.expense.TransferStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -35,15 +38,74 @@ public interface TransferRepository extends JpaRepository<Transfer, Long> {
 
     /**
      * 특정 멤버 기준(보내는 사람 or 받는 사람)으로 해당 그룹의 송금 목록 조회
+     * - OR 조건 대신 from/to 두 갈래의 UNION ALL 로 분리해 각자 복합 인덱스를 타도록 함
+     * - 자기 자신 송금은 금지지만, 방어적으로 두 번째 갈래에서 from = me 를 제외해 중복을 막는다
      */
+    @Query(value = """
+      SELECT t.* FROM gatieottae.transfer t
+       WHERE t.group_id = :groupId AND t.from_member_id = :memberId
+      UNION ALL
+      SELECT t.* FROM gatieottae.transfer t
+       WHERE t.group_id = :groupId AND t.to_member_id = :memberId AND t.from_member_id <> :memberId
+      ORDER BY created_at DESC, id DESC
+    """, nativeQuery = true)
+    List<Transfer> findMyTransfersInGroup(@Param("groupId") Long groupId, @Param("memberId") Long memberId);
+
+    /**
+     * 송금 원장(내 기준) 키셋 페이지 조회
+     * - 정렬: created_at DESC, id DESC
+     * - 커서: (created_at, id) < (:cursorCreatedAt, :cursorId)  (첫 페이지는 최대값을 넘김)
+     * - 각 갈래가 (group_id, from|to_member_id, created_at, id) 인덱스를 역순 스캔하며 limit 만큼만 읽고,
+     *   바깥에서 한 번 더 정렬/limit 한다 → 원장 크기와 무관하게 일정한 비용
+     * - statuses: 상태 이름 목록(필터 없으면 전체 상태를 넘김)
+     */
+    @Query(value = """
+      SELECT x.* FROM (
+        (SELECT t.* FROM gatieottae.transfer t
+          WHERE t.group_id = :groupId AND t.from_member_id = :memberId
+            AND CAST(t.status AS text) IN (:statuses)
+            AND (t.created_at, t.id) < (:cursorCreatedAt, :cursorId)
+          ORDER BY t.created_at DESC, t.id DESC
+          LIMIT :limit)
+        UNION ALL
+        (SELECT t.* FROM gatieottae.transfer t
+          WHERE t.group_id = :groupId AND t.to_member_id = :memberId AND t.from_member_id <> :memberId
+            AND CAST(t.status AS text) IN (:statuses)
+            AND (t.created_at, t.id) < (:cursorCreatedAt, :cursorId)
+          ORDER BY t.created_at DESC, t.id DESC
+          LIMIT :limit)
+      ) x
+      ORDER BY x.created_at DESC, x.id DESC
+      LIMIT :limit
+    """, nativeQuery = true)
+    List<Transfer> findLedgerPage(@Param("groupId") Long groupId,
+                                  @Param("memberId") Long memberId,
+                                  @Param("statuses") Collection<String> statuses,
+                                  @Param("cursorCreatedAt") OffsetDateTime cursorCreatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  @Param("limit") int limit);
+
+    /**
+     * 조건부 상태 전이 (compare-and-set)
+     * - 현재 상태가 fromStatuses 중 하나일 때만 toStatus 로 변경, version 도 함께 증가
+     * - 반환값 0 이면 다른 요청이 먼저 상태를 바꾼 것 → 호출 측에서 재조회 후 재판정
+     * - memo 가 null 이면 기존 값 유지
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("""
-      select t from Transfer t
-      where t.groupId = :groupId
-        and (t.fromMemberId = :memberId or t.toMemberId = :memberId)
-      order by t.createdAt desc
+      update Transfer t
+         set t.status = :toStatus,
+             t.memo = coalesce(:memo, t.memo),
+             t.version = t.version + 1
+       where t.id = :id
+         and t.groupId = :groupId
+         and t.status in :fromStatuses
     """)
-    List<Transfer> findMyTransfersInGroup(Long groupId, Long memberId);
- 
+    int transitionStatus(@Param("id") Long id,
+                         @Param("groupId") Long groupId,
+                         @Param("fromStatuses") Collection<TransferStatus> fromStatuses,
+                         @Param("toStatus") TransferStatus toStatus,
+                         @Param("memo") String memo);
 
     boolean existsByExpenseIdAndStatus(Long expenseId, TransferStatus transferStatus);
 
@@ -1,6 +1,7 @@
 package com.gatieottae.backend.repository.group;
 
 import com.gatieottae.backend.domain.group.GroupMember;
+import com.gatieottae.backend.repository.group.projection.GroupMemberBrief;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,4 +20,26 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     // 그룹 ID로 멤버 ID만 뽑아오기
     @Query("select gm.memberId from GroupMember gm where gm.groupId = :groupId")
     List<Long> findMemberIdsByGroupId(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+
+    // 회원 ID로 가입한 그룹 ID만 뽑아오기
+    @Query("select gm.groupId from GroupMember gm where gm.memberId = :memberId")
+    List<Long> findGroupIdsByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * 그룹 상세 화면용 멤버 목록 (필요한 컬럼만)
+     * - displayName: nickname 우선, 비어 있으면 name
+     * - 정렬: OWNER 우선 → displayName(소문자) → memberId
+     */
+    @Query(value = """
+        SELECT gm.member_id AS id,
+               COALESCE(NULLIF(TRIM(m.nickname), ''), m.name) AS displayName,
+               gm.role AS role
+        FROM gatieottae.travel_group_member gm
+        JOIN gatieottae.member m ON m.id = gm.member_id
+        WHERE gm.group_id = :groupId
+        ORDER BY CASE WHEN gm.role = 'OWNER' THEN 0 ELSE 1 END,
+                 LOWER(COALESCE(NULLIF(TRIM(m.nickname), ''), m.name)),
+                 gm.member_id
+        """, nativeQuery = true)
+    List<GroupMemberBrief> findBriefsByGroupId(@Param("groupId") Long groupId);
+}
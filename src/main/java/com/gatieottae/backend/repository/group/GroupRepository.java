@@ -2,7 +2,11 @@ package com.gatieottae.backend.repository.group;
 
 import com.gatieottae.backend.domain.group.Group;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
@@ -18,4 +22,16 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
      */
     Optional<Group> findByInviteCode(String inviteCode);
 
+    /**
+     * 초대코드 → 그룹 id 만 (참여 시 캐시 미스 경로).
+     */
+    @Query("select g.id from Group g where g.inviteCode = :code")
+    Optional<Long> findIdByInviteCode(@Param("code") String code);
+
+    /**
+     * 후보 코드 중 이미 사용 중인 것 (초대코드 풀 보충 시 충돌 제거).
+     */
+    @Query("select g.inviteCode from Group g where g.inviteCode in :codes")
+    List<String> findExistingInviteCodes(@Param("codes") Collection<String> codes);
+
 }
\ No newline at end of file
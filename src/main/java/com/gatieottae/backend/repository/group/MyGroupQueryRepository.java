@@ -14,9 +14,9 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
 
     /**
      * START ASC
-     * - NULL start_date는 9999-12-31로 간주(= 맨 뒤로)
-     * - 정렬: start_date ASC, id DESC (안정 정렬용 타이브레이커)
-     * - 커서 비교도 (start_key, id) > (cursor_start_key, cursor_id)
+     * - NULL start_date는 9999-12-31로 간주(= 맨 뒤로) → 생성 컬럼 sort_start_asc
+     * - 정렬: sort_start_asc ASC, id ASC (커서 비교와 같은 방향이어야 페이지 경계에서 누락/중복 없음)
+     * - 커서 비교도 (sort_start_asc, id) > (cursor_start_key, cursor_id)
      */
     @Query(value = """
         SELECT g.*
@@ -26,16 +26,16 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
           AND (:q IS NULL OR :q = '' OR (g.name ILIKE CONCAT('%', :q, '%') OR g.destination ILIKE CONCAT('%', :q, '%')))
           AND (
              :status IS NULL OR :status = '' OR
-             (:status = 'before' AND :today < COALESCE(g.start_date, DATE '9999-12-31')) OR
-             (:status = 'during' AND :today BETWEEN COALESCE(g.start_date, :today) AND COALESCE(g.end_date, COALESCE(g.start_date, :today))) OR
-             (:status = 'after'  AND :today >  COALESCE(g.end_date, COALESCE(g.start_date, DATE '0001-01-01')))
+             (:status = 'before' AND g.status_begin > :today) OR
+             (:status = 'during' AND g.status_begin <= :today AND g.status_end >= :today) OR
+             (:status = 'after'  AND g.status_end < :today)
           )
           AND (
              :cursorId IS NULL OR
-             ( (COALESCE(g.start_date, DATE '9999-12-31'), g.id)
+             ( (g.sort_start_asc, g.id)
                > (COALESCE(:cursorStart, DATE '9999-12-31'), :cursorId) )
           )
-        ORDER BY COALESCE(g.start_date, DATE '9999-12-31') ASC, g.id DESC
+        ORDER BY g.sort_start_asc ASC, g.id ASC
         LIMIT :size
         """, nativeQuery = true)
     List<Group> findMyGroupsStartAsc(
@@ -50,9 +50,9 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
 
     /**
      * START DESC
-     * - NULL start_date는 0001-01-01로 간주(= 맨 앞으로)
-     * - 정렬: start_date DESC, id DESC
-     * - 커서 비교도 (start_key, id) < (cursor_start_key, cursor_id)
+     * - NULL start_date는 0001-01-01로 간주(= 맨 뒤로) → 생성 컬럼 sort_start_desc
+     * - 정렬: sort_start_desc DESC, id DESC
+     * - 커서 비교도 (sort_start_desc, id) < (cursor_start_key, cursor_id)
      */
     @Query(value = """
         SELECT g.*
@@ -62,16 +62,16 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
           AND (:q IS NULL OR :q = '' OR (g.name ILIKE CONCAT('%', :q, '%') OR g.destination ILIKE CONCAT('%', :q, '%')))
           AND (
              :status IS NULL OR :status = '' OR
-             (:status = 'before' AND :today < COALESCE(g.start_date, DATE '9999-12-31')) OR
-             (:status = 'during' AND :today BETWEEN COALESCE(g.start_date, :today) AND COALESCE(g.end_date, COALESCE(g.start_date, :today))) OR
-             (:status = 'after'  AND :today >  COALESCE(g.end_date, COALESCE(g.start_date, DATE '0001-01-01')))
+             (:status = 'before' AND g.status_begin > :today) OR
+             (:status = 'during' AND g.status_begin <= :today AND g.status_end >= :today) OR
+             (:status = 'after'  AND g.status_end < :today)
           )
           AND (
              :cursorId IS NULL OR
-             ( (COALESCE(g.start_date, DATE '0001-01-01'), g.id)
+             ( (g.sort_start_desc, g.id)
                < (COALESCE(:cursorStart, DATE '0001-01-01'), :cursorId) )
           )
-        ORDER BY COALESCE(g.start_date, DATE '0001-01-01') DESC, g.id DESC
+        ORDER BY g.sort_start_desc DESC, g.id DESC
         LIMIT :size
         """, nativeQuery = true)
     List<Group> findMyGroupsStartDesc(
@@ -86,8 +86,8 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
 
     /**
      * TITLE ASC
-     * - 정렬: LOWER(name) ASC, id DESC
-     * - 커서 비교도 (LOWER(name), id) > (LOWER(cursorTitle), cursorId)
+     * - 정렬: sort_name(= LOWER(name)) ASC, id ASC
+     * - 커서 비교도 (sort_name, id) > (LOWER(cursorTitle), cursorId)
      */
     @Query(value = """
         SELECT g.*
@@ -97,15 +97,15 @@ public interface MyGroupQueryRepository extends CrudRepository<Group, Long> {
           AND (:q IS NULL OR :q = '' OR (g.name ILIKE CONCAT('%', :q, '%') OR g.destination ILIKE CONCAT('%', :q, '%')))
           AND (
              :status IS NULL OR :status = '' OR
-             (:status = 'before' AND :today < COALESCE(g.start_date, DATE '9999-12-31')) OR
-             (:status = 'during' AND :today BETWEEN COALESCE(g.start_date, :today) AND COALESCE(g.end_date, COALESCE(g.start_date, :today))) OR
-             (:status = 'after'  AND :today >  COALESCE(g.end_date, COALESCE(g.start_date, DATE '0001-01-01')))
+             (:status = 'before' AND g.status_begin > :today) OR
+             (:status = 'during' AND g.status_begin <= :today AND g.status_end >= :today) OR
+             (:status = 'after'  AND g.status_end < :today)
           )
           AND (
              :cursorId IS NULL OR
-             ( (LOWER(g.name), g.id) > (LOWER(:cursorTitle), :cursorId) )
+             ( (g.sort_name, g.id) > (LOWER(:cursorTitle), :cursorId) )
           )
-        ORDER BY LOWER(g.name) ASC, g.id DESC
+        ORDER BY g.sort_name ASC, g.id ASC
         LIMIT :size
         """, nativeQuery = true)
     List<Group> findMyGroupsTitleAsc(
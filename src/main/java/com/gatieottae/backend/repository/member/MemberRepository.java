@@ -1,7 +1,12 @@
 package com.gatieottae.backend.repository.member;
 
 import com.gatieottae.backend.domain.member.Member;
+import com.gatieottae.backend.repository.member.projection.MemberAuthView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -26,4 +31,14 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /** 소셜 전용: provider + subject 조합 조회 (DB에 유니크 인덱스 존재) */
     Optional<Member> findByOauthProviderAndOauthSubject(String oauthProvider, String oauthSubject);
-}
\ No newline at end of file
+
+    /** JWT 인증 필터용: username + status 만 */
+    @Query("select m.username as username, m.status as status from Member m where m.id = :id")
+    Optional<MemberAuthView> findAuthViewById(@Param("id") Long id);
+
+    /** 비밀번호 재해시: 읽은 해시가 그대로일 때만 교체 (동시 변경 덮어쓰기 방지) */
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.passwordHash = :newHash where m.id = :id and m.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+}
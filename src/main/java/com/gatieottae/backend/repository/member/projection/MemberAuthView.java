@@ -0,0 +1,9 @@
+package com.gatieottae.backend.repository.member.projection;
+
+import com.gatieottae.backend.domain.member.MemberStatus;
+
+/** 요청 인증에 필요한 회원 정보만 (비밀번호 해시 등 제외) */
+public interface MemberAuthView {
+    String getUsername();
+    MemberStatus getStatus();
+}
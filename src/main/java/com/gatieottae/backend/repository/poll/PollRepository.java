@@ -1,24 +1,75 @@
 package com.gatieottae.backend.repository.poll;
 
 import com.gatieottae.backend.domain.poll.Poll;
+import com.gatieottae.backend.repository.poll.projection.PollDeadlineView;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PollRepository extends JpaRepository<Poll, Long> {
     List<Poll> findByGroupIdOrderByCreatedAtDesc(Long groupId);
 
-    // 상태가 OPEN 이고 closesAt이 now 이전/같은 것들의 ID 페이징 조회
+    /** 투표/취소용 공유 잠금 조회 (SELECT ... FOR SHARE): 마감 UPDATE 와 직렬화 */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select p from Poll p where p.id = :id")
+    Optional<Poll> findByIdForShare(@Param("id") Long id);
+
+    /**
+     * 마감 시각이 지난 OPEN 투표를 최대 limit 건 CLOSED 로 바꾸고 id 를 반환 (한 문장, 자체 트랜잭션)
+     * - 닫힌 행은 다음 호출의 대상에서 빠지므로 반복 호출만으로 전부 처리된다 (오프셋 페이징 불필요)
+     * - SKIP LOCKED: 다른 인스턴스/사용자가 잡고 있는 행은 건너뛰고 다음 청크에서 처리
+     * - readOnly 기본 트랜잭션을 덮어쓰기 위해 @Transactional 명시
+     */
+    @Transactional
+    @Query(value = """
+           WITH due AS (
+               SELECT id
+                 FROM gatieottae.poll
+                WHERE status = 'OPEN'
+                  AND closes_at IS NOT NULL
+                  AND closes_at <= :now
+                ORDER BY closes_at, id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+           )
+           UPDATE gatieottae.poll p
+              SET status = 'CLOSED',
+                  updated_at = :now
+             FROM due
+            WHERE p.id = due.id
+           RETURNING p.id
+           """, nativeQuery = true)
+    List<Long> closeDue(@Param("now") OffsetDateTime now, @Param("limit") int limit);
+
+    /**
+     * 마감 타이머(PollDeadlineQueue)가 꺼낸 id 중 실제로 마감 시각이 지난 OPEN 투표만 닫고 id 반환
+     * - 큐에 남아 있던 옛 시각(그 사이 closesAt 연장)이나 이미 닫힌 poll 은 조건에서 걸러진다
+     */
+    @Transactional
+    @Query(value = """
+           UPDATE gatieottae.poll
+              SET status = 'CLOSED',
+                  updated_at = :now
+            WHERE id IN (:ids)
+              AND status = 'OPEN'
+              AND closes_at <= :now
+           RETURNING id
+           """, nativeQuery = true)
+    List<Long> closeDueByIds(@Param("ids") List<Long> ids, @Param("now") OffsetDateTime now);
+
+    /** 마감 시각이 있는 OPEN 투표 (기동 시 타이머 큐 백필) */
     @Query("""
-           select p.id
+           select p.id as id, p.closesAt as closesAt
              from Poll p
             where p.status = com.gatieottae.backend.domain.poll.PollStatus.OPEN
               and p.closesAt is not null
-              and p.closesAt <= :now
-           order by p.id asc
            """)
-    List<Long> findIdsToClose(OffsetDateTime now, Pageable pageable);
-}
\ No newline at end of file
+    List<PollDeadlineView> findOpenDeadlines();
+}
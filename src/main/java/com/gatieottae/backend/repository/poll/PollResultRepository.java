@@ -0,0 +1,52 @@
+package com.gatieottae.backend.repository.poll;
+
+import com.gatieottae.backend.domain.poll.PollResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+
+public interface PollResultRepository extends JpaRepository<PollResult, Long> {
+
+    /**
+     * 주어진 poll 들의 현재 득표를 집계해 스냅샷 INSERT (마감과 같은 트랜잭션에서 호출)
+     * - 옵션별 득표(0 포함), 총 참여자(1인 1표라 득표 합), 단독 1위 옵션
+     * - 이미 스냅샷이 있으면 그대로 둔다 (불변)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        WITH c AS (
+            SELECT o.poll_id, o.id AS option_id, COUNT(v.id) AS votes
+              FROM gatieottae.poll_option o
+              LEFT JOIN gatieottae.poll_vote v ON v.option_id = o.id
+             WHERE o.poll_id IN (:pollIds)
+             GROUP BY o.poll_id, o.id
+        ), r AS (
+            SELECT p.id AS poll_id,
+                   COALESCE(jsonb_object_agg(c.option_id::text, c.votes) FILTER (WHERE c.option_id IS NOT NULL),
+                            '{}'::jsonb) AS counts,
+                   COALESCE(SUM(c.votes), 0)::int AS total_voters,
+                   COALESCE(MAX(c.votes), 0) AS top
+              FROM gatieottae.poll p
+              LEFT JOIN c ON c.poll_id = p.id
+             WHERE p.id IN (:pollIds)
+             GROUP BY p.id
+        )
+        INSERT INTO gatieottae.poll_result (poll_id, counts, total_voters, winner_option_id, closed_at)
+        SELECT r.poll_id, r.counts, r.total_voters,
+               CASE WHEN r.top > 0 THEN (
+                   SELECT CASE WHEN COUNT(*) = 1 THEN MIN(c.option_id) END
+                     FROM c
+                    WHERE c.poll_id = r.poll_id AND c.votes = r.top
+               ) END,
+               :closedAt
+          FROM r
+        ON CONFLICT (poll_id) DO NOTHING
+        """, nativeQuery = true)
+    int snapshot(@Param("pollIds") Collection<Long> pollIds, @Param("closedAt") OffsetDateTime closedAt);
+}
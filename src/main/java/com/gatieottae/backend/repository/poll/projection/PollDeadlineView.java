@@ -0,0 +1,9 @@
+package com.gatieottae.backend.repository.poll.projection;
+
+import java.time.OffsetDateTime;
+
+/** 마감 타이머 백필용 (id + 마감 시각만) */
+public interface PollDeadlineView {
+    Long getId();
+    OffsetDateTime getClosesAt();
+}
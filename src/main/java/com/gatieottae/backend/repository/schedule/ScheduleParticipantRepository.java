@@ -1,37 +1,88 @@
 package com.gatieottae.backend.repository.schedule;
 
 import com.gatieottae.backend.domain.schedule.ScheduleParticipant;
-import com.gatieottae.backend.domain.schedule.ScheduleParticipantStatus;
-import com.gatieottae.backend.repository.schedule.view.AttendeeSampleView;
-import org.springframework.data.domain.Pageable;
+import com.gatieottae.backend.repository.schedule.view.AttendanceSummaryRow;
+import com.gatieottae.backend.repository.schedule.view.AttendanceUpsertView;
+import com.gatieottae.backend.repository.schedule.view.ParticipantWarmUpRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ScheduleParticipantRepository extends JpaRepository<ScheduleParticipant, Long> {
-    @Query("""
-    select count(sp) from ScheduleParticipant sp
-     where sp.scheduleId = :scheduleId and sp.status = 'GOING'
-  """)
-    long countGoing(@Param("scheduleId") Long scheduleId);
+    Optional<ScheduleParticipant> findByScheduleIdAndMemberId(Long scheduleId, Long memberId);
 
-    boolean existsByScheduleIdAndMemberIdAndStatus(Long scheduleId, Long memberId, ScheduleParticipantStatus status);
+    /**
+     * 여러 일정의 참석 요약을 한 번에 조회 (달력 목록 N+1 제거)
+     * - GOING 참석자를 일정별로 파티션해 row_number(joined_at asc)로 샘플 sampleSize 명만 남김
+     * - 같은 윈도우에서 count(*) = 참석 수, bool_or(member_id = :me) = 내 참석 여부
+     * - GOING 이 0명인 일정은 행이 없음 → 호출 측에서 0/false 로 처리
+     */
+    @Query(value = """
+    select r.schedule_id  as scheduleId,
+           r.going_count  as goingCount,
+           r.mine         as mine,
+           r.member_id    as memberId,
+           r.display_name as displayName,
+           r.rn           as rn
+      from (
+            select sp.schedule_id,
+                   sp.member_id,
+                   coalesce(m.nickname, m.name) as display_name,
+                   row_number() over (partition by sp.schedule_id order by sp.joined_at asc, sp.id asc) as rn,
+                   count(*)     over (partition by sp.schedule_id) as going_count,
+                   bool_or(sp.member_id = :me) over (partition by sp.schedule_id) as mine
+              from schedule_participant sp
+              join member m on m.id = sp.member_id
+             where sp.schedule_id in (:scheduleIds)
+               and sp.status = 'GOING'
+           ) r
+     where r.rn <= :sampleSize
+     order by r.schedule_id, r.rn
+  """, nativeQuery = true)
+    List<AttendanceSummaryRow> findAttendanceSummaries(@Param("scheduleIds") Collection<Long> scheduleIds,
+                                                       @Param("me") Long me,
+                                                       @Param("sampleSize") int sampleSize);
 
-    Optional<ScheduleParticipant> findByScheduleIdAndMemberId(Long scheduleId, Long memberId);
+    /**
+     * 참석 상태 upsert (단일 문장, 조회 후 저장 경합 없음)
+     * - 없으면 INSERT, 있으면 상태만 변경 (joined_at 유지)
+     * - 상태가 같으면 갱신하지 않음 → 결과 행 없음
+     * - 결과: joined_at(ms) + 표시 이름 (참석 캐시 반영용)
+     */
+    @Query(value = """
+    with up as (
+        insert into schedule_participant (schedule_id, member_id, status)
+        values (:scheduleId, :memberId, cast(:status as schedule_participant_status))
+        on conflict (schedule_id, member_id)
+        do update set status = excluded.status
+         where schedule_participant.status is distinct from excluded.status
+        returning member_id, joined_at
+    )
+    select cast(extract(epoch from up.joined_at) * 1000 as bigint) as joinedAtMs,
+           coalesce(m.nickname, m.name) as displayName
+      from up
+      join member m on m.id = up.member_id
+  """, nativeQuery = true)
+    Optional<AttendanceUpsertView> upsertStatus(@Param("scheduleId") Long scheduleId,
+                                                @Param("memberId") Long memberId,
+                                                @Param("status") String status);
 
+    /** 참석 캐시 적재용: 일정들의 전체 참가자 */
     @Query(value = """
-    select sp.member_id as memberId,
+    select sp.schedule_id as scheduleId,
+           sp.member_id   as memberId,
+           cast(sp.status as text) as status,
+           cast(extract(epoch from sp.joined_at) * 1000 as bigint) as joinedAtMs,
            coalesce(m.nickname, m.name) as displayName
       from schedule_participant sp
       join member m on m.id = sp.member_id
-     where sp.schedule_id = :scheduleId
-       and sp.status = 'GOING'
-     order by sp.joined_at asc
+     where sp.schedule_id in (:scheduleIds)
+     order by sp.schedule_id, sp.joined_at asc, sp.id asc
   """, nativeQuery = true)
-    List<AttendeeSampleView> findAttendeeSamples(@Param("scheduleId") Long scheduleId, Pageable pageable);
-
+    List<ParticipantWarmUpRow> findParticipantsForWarmUp(@Param("scheduleIds") Collection<Long> scheduleIds);
 
     void deleteByScheduleId(Long scheduleId);
 }
\ No newline at end of file
@@ -1,36 +1,73 @@
 package com.gatieottae.backend.repository.schedule;
 
 import com.gatieottae.backend.domain.schedule.Schedule;
+import com.gatieottae.backend.repository.schedule.view.ScheduleFeedVersionView;
+import com.gatieottae.backend.repository.schedule.view.ScheduleIcsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    @Query("""
-    select s from Schedule s
-     where s.groupId = :groupId
-       and s.endTime   > :from
-       and s.startTime < :to
-     order by s.startTime asc, s.id asc
-  """)
+    /**
+     * 기간과 겹치는 일정 (time_range && [from, to), GiST 인덱스 사용)
+     * - time_range 는 DB 생성 컬럼(V2025_09_17_04) — 엔티티에는 매핑하지 않음
+     */
+    @Query(value = """
+    select s.* from schedule s
+     where s.group_id = :groupId
+       and s.time_range && tstzrange(:from, :to, '[)')
+     order by s.start_time asc, s.id asc
+  """, nativeQuery = true)
     List<Schedule> findOverlapping(@Param("groupId") Long groupId,
                                    @Param("from") OffsetDateTime from,
                                    @Param("to") OffsetDateTime to);
 
-    @Query("""
-    select s from Schedule s
-     where s.groupId = :groupId
+    /**
+     * 특정 일정과 겹치는 다른 일정 (생성/수정 시 겹침 안내)
+     * - end 가 없으면 time_range 생성 컬럼과 같은 규칙으로 시작 시각 한 점 (상한 없는 구간으로 보지 않음)
+     */
+    @Query(value = """
+    select s.* from schedule s
+     where s.group_id = :groupId
        and s.id <> :scheduleId
-       and s.endTime   > :start
-       and s.startTime < :end
-  """)
+       and s.time_range && (CASE WHEN cast(:end as timestamptz) IS NULL
+                                 THEN tstzrange(:start, :start, '[]')
+                                 ELSE tstzrange(:start, :end, '[)')
+                            END)
+  """, nativeQuery = true)
     List<Schedule> findOverlapsOf(@Param("groupId") Long groupId,
                                   @Param("scheduleId") Long scheduleId,
                                   @Param("start") OffsetDateTime start,
                                   @Param("end") OffsetDateTime end);
 
     Optional<Schedule> findByIdAndGroupId(Long id, Long groupId);
+
+    /**
+     * iCalendar 피드용 스트림 (JDBC 커서, fetch size 만큼씩 읽음)
+     * - 트랜잭션 안에서 소비하고 반드시 close 해야 함
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("""
+    select s.id as id, s.title as title, s.description as description, s.location as location,
+           s.startTime as startTime, s.endTime as endTime, s.updatedAt as updatedAt
+      from Schedule s
+     where s.groupId = :groupId
+     order by s.startTime asc, s.id asc
+  """)
+    Stream<ScheduleIcsView> streamForIcs(@Param("groupId") Long groupId);
+
+    /** 피드 버전: 최신 수정 시각 + 건수(삭제 반영) */
+    @Query("""
+    select max(s.updatedAt) as lastUpdatedAt, count(s) as total
+      from Schedule s
+     where s.groupId = :groupId
+  """)
+    ScheduleFeedVersionView findFeedVersion(@Param("groupId") Long groupId);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.gatieottae.backend.repository.schedule.view;
+
+/**
+ * 일정별 참석 요약 1행 (일정당 최대 sampleSize 행)
+ * - goingCount/mine 은 같은 일정의 모든 행에서 동일
+ * - rn: joined_at 순번 (1부터)
+ */
+public interface AttendanceSummaryRow {
+    Long getScheduleId();
+    Long getGoingCount();
+    Boolean getMine();
+    Long getMemberId();
+    String getDisplayName();
+    Long getRn();
+}
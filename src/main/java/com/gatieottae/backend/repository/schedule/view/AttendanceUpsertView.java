@@ -0,0 +1,7 @@
+package com.gatieottae.backend.repository.schedule.view;
+
+/** 참석 상태 upsert 결과 (상태가 실제로 바뀐 경우에만 행이 있음) */
+public interface AttendanceUpsertView {
+    Long getJoinedAtMs();
+    String getDisplayName();
+}
@@ -1,6 +0,0 @@
-package com.gatieottae.backend.repository.schedule.view;
-
-public interface AttendeeSampleView {
-    Long getMemberId();
-    String getDisplayName();
-}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.gatieottae.backend.repository.schedule.view;
+
+/** 참석 캐시 적재용 참가자 행 */
+public interface ParticipantWarmUpRow {
+    Long getScheduleId();
+    Long getMemberId();
+    String getStatus();
+    Long getJoinedAtMs();
+    String getDisplayName();
+}
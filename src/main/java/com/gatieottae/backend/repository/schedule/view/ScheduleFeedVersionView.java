@@ -0,0 +1,9 @@
+package com.gatieottae.backend.repository.schedule.view;
+
+import java.time.OffsetDateTime;
+
+/** 그룹 일정 피드 버전 (ETag/Last-Modified 계산용) */
+public interface ScheduleFeedVersionView {
+    OffsetDateTime getLastUpdatedAt(); // 일정이 없으면 null
+    Long getTotal();
+}
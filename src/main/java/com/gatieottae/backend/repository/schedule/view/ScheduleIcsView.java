@@ -0,0 +1,14 @@
+package com.gatieottae.backend.repository.schedule.view;
+
+import java.time.OffsetDateTime;
+
+/** iCalendar 피드 1건 (엔티티 대신 읽기 전용 프로젝션 → 스트리밍 중 영속성 컨텍스트에 쌓이지 않음) */
+public interface ScheduleIcsView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getLocation();
+    OffsetDateTime getStartTime();
+    OffsetDateTime getEndTime();
+    OffsetDateTime getUpdatedAt();
+}
@@ -1,10 +1,10 @@
 package com.gatieottae.backend.scheduler;
 
+import com.gatieottae.backend.scheduler.lock.SchedulerLease;
+import com.gatieottae.backend.scheduler.lock.SchedulerLock;
 import com.gatieottae.backend.service.poll.PollService;
-import com.gatieottae.backend.repository.poll.PollRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -14,8 +14,10 @@ import java.util.List;
 
 /**
  * 매일 자정(KST) 기준으로 마감 대상 투표를 일괄 마감한다.
- * - 안전성을 위해 페이징으로 끊어 처리한다.
+ * - 청크(BATCH_SIZE) 단위 UPDATE ... RETURNING 으로 닫는다. 닫힌 행은 대상에서 빠지므로 빈 결과가 나올 때까지 반복.
  * - 서버 지연/재시작 대비를 위해 보수 점검용 5분 간격 스케줄도 둔다(선택).
+ * - 정시 마감은 PollDeadlinePoller(Redis 타이머 큐)가 담당하고, 이 스윕은 큐에서 빠진 건을 회수하는 안전망.
+ * - 두 작업 모두 같은 락(LOCK_NAME)을 써서 클러스터 전체에서 한 번에 하나만 실행된다.
  */
 @Slf4j
 @Component
@@ -23,14 +25,15 @@ import java.util.List;
 public class PollCloseScheduler {
 
     private static final int BATCH_SIZE = 500;
+    private static final String LOCK_NAME = "poll-close";
 
-    private final PollRepository pollRepository;
     private final PollService pollService;
 
     private ZoneId zoneId = ZoneId.of("Asia/Seoul");
 
     /** 메인: 매일 00:00:00 KST */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = LOCK_NAME)
     public void closeAtMidnight() {
         log.info("[PollCloseScheduler] start closeAtMidnight");
         runCloseJob();
@@ -39,35 +42,34 @@ public class PollCloseScheduler {
 
     /** (선택) 보수: 5분마다 과거 마감 누락건이 있으면 회수 */
     @Scheduled(cron = "0 */5 * * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = LOCK_NAME)
     public void sweepOverdue() {
         log.info("[PollCloseScheduler] start sweepOverdue");
         runCloseJob();
         log.info("[PollCloseScheduler] end sweepOverdue");
     }
 
-    /** 실제 처리 루틴: 현재(now) 기준으로 마감 대상(OPEN & closesAt <= now)을 페이징으로 닫는다. */
+    /** 실제 처리 루틴: 현재(now) 기준으로 마감 대상(OPEN & closesAt <= now)을 청크 단위로 닫는다. */
     private void runCloseJob() {
         final OffsetDateTime now = OffsetDateTime.now(zoneId);
-        int page = 0;
         int totalClosed = 0;
 
         while (true) {
-            List<Long> ids = pollRepository.findIdsToClose(now, PageRequest.of(page, BATCH_SIZE));
-            if (ids.isEmpty()) break;
-
-            for (Long id : ids) {
-                try {
-                    // memberId는 '시스템 사용자' 개념으로 0 또는 null을 줄 수 있음.
-                    // 현재 close()는 권한 체크가 없으니 0L로 호출해도 무방.
-                    pollService.close(id, 0L);
-                    totalClosed++;
-                } catch (Exception e) {
-                    // 한 건 실패해도 전체 작업은 계속 진행
-                    log.warn("failed to close pollId={}", id, e);
-                }
+            if (!SchedulerLease.stillHeld()) {
+                // 임대를 잃었으면 다른 인스턴스가 이어받았을 수 있으므로 중단
+                log.warn("[PollCloseScheduler] lease lost, stopping after {} closed", totalClosed);
+                break;
+            }
+            List<Long> closed;
+            try {
+                closed = pollService.closeDue(now, BATCH_SIZE);
+            } catch (Exception e) {
+                // 다음 스케줄(5분)에서 다시 시도
+                log.warn("[PollCloseScheduler] chunk failed after closing {}", totalClosed, e);
+                break;
             }
-            // 다음 페이지
-            page++;
+            totalClosed += closed.size();
+            if (closed.size() < BATCH_SIZE) break;
         }
         if (totalClosed > 0) {
             log.info("[PollCloseScheduler] closed polls: {}", totalClosed);
@@ -75,4 +77,4 @@ public class PollCloseScheduler {
             log.info("[PollCloseScheduler] no polls to close");
         }
     }
-}
\ No newline at end of file
+}
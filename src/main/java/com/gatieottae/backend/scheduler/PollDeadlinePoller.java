@@ -0,0 +1,85 @@
+package com.gatieottae.backend.scheduler;
+
+import com.gatieottae.backend.infra.redis.PollDeadlineQueue;
+import com.gatieottae.backend.repository.poll.PollRepository;
+import com.gatieottae.backend.repository.poll.projection.PollDeadlineView;
+import com.gatieottae.backend.service.poll.PollService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 투표 정시 마감 폴러
+ *
+ * - 0.5초마다 PollDeadlineQueue 에서 기한이 지난 poll 을 꺼내 한 번의 UPDATE 로 닫는다 → 마감 시각 후 1초 안에 CLOSED
+ * - 큐가 비어 있으면 Redis 명령 1회로 끝 (테이블 스캔 없음)
+ * - 꺼냈는데 닫기에 실패한 id 는 다시 넣어 다음 주기에 재시도
+ * - 기동 시 OPEN 투표의 마감 시각을 큐에 백필 (배포 전에 만들어졌거나 등록이 유실된 poll 대비)
+ * - Redis 장애 등으로 빠진 건은 PollCloseScheduler 의 5분 스윕이 회수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PollDeadlinePoller {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final PollDeadlineQueue deadlineQueue;
+    private final PollRepository pollRepository;
+    private final PollService pollService;
+
+    private final ZoneId zoneId = ZoneId.of("Asia/Seoul");
+    private volatile boolean queueDown;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            Map<Long, OffsetDateTime> deadlines = new LinkedHashMap<>();
+            for (PollDeadlineView v : pollRepository.findOpenDeadlines()) {
+                deadlines.put(v.getId(), v.getClosesAt());
+            }
+            deadlineQueue.scheduleAll(deadlines);
+            log.info("[PollDeadline] backfilled {} open poll deadlines", deadlines.size());
+        } catch (Exception e) {
+            log.warn("[PollDeadline] backfill failed; sweep will cover", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 500, initialDelay = 5_000)
+    public void closeDue() {
+        while (true) {
+            List<Long> due;
+            try {
+                due = deadlineQueue.claimDue(System.currentTimeMillis(), BATCH_SIZE);
+                if (queueDown) log.info("[PollDeadline] queue recovered");
+                queueDown = false;
+            } catch (Exception e) {
+                // 0.5초마다 같은 경고가 쌓이지 않도록 상태가 바뀔 때만 기록
+                if (!queueDown) log.warn("[PollDeadline] queue unavailable; falling back to sweep", e);
+                queueDown = true;
+                return;
+            }
+            if (due.isEmpty()) return;
+
+            OffsetDateTime now = OffsetDateTime.now(zoneId);
+            try {
+                List<Long> closed = pollService.closeOnDeadline(due, now);
+                log.info("[PollDeadline] closed {} of {} due polls", closed.size(), due.size());
+            } catch (Exception e) {
+                log.warn("[PollDeadline] close failed, re-queueing {} polls", due.size(), e);
+                due.forEach(id -> deadlineQueue.schedule(id, now));
+                return;
+            }
+            if (due.size() < BATCH_SIZE) return;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.gatieottae.backend.scheduler.lock;
+
+import java.util.Optional;
+
+/**
+ * 현재 스레드에서 실행 중인 @SchedulerLock 작업의 임대 정보
+ *
+ * - fencingToken: 획득할 때마다 증가. 외부 저장소에 쓸 때 함께 남기면 늦게 깨어난 옛 소유자의 쓰기를 구분할 수 있다
+ * - isHeld(): 연장에 실패(만료/탈취)하면 false → 긴 작업은 청크 사이에 확인하고 중단
+ */
+public final class SchedulerLease {
+
+    private static final ThreadLocal<SchedulerLease> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final long fencingToken;
+    private volatile boolean held = true;
+
+    SchedulerLease(String name, long fencingToken) {
+        this.name = name;
+        this.fencingToken = fencingToken;
+    }
+
+    /** @SchedulerLock 작업 밖이면 empty */
+    public static Optional<SchedulerLease> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /** 현재 작업이 락을 잃었으면 false (락 없이 실행 중이면 true) */
+    public static boolean stillHeld() {
+        SchedulerLease lease = CURRENT.get();
+        return lease == null || lease.isHeld();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    public boolean isHeld() {
+        return held;
+    }
+
+    void markLost() {
+        held = false;
+    }
+
+    static void bind(SchedulerLease lease) {
+        CURRENT.set(lease);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,27 @@
+package com.gatieottae.backend.scheduler.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클러스터에서 한 인스턴스만 실행할 작업 표시 (@Scheduled 메서드 등, 반환형 void)
+ *
+ * - 실행 직전에 Redis 임대 락(name)을 잡고, 못 잡으면 이번 실행은 건너뜀
+ * - 실행 중에는 임대를 leaseSeconds/3 마다 연장, 끝나면 해제
+ * - 같은 name 을 쓰는 작업끼리는 서로 겹쳐 실행되지 않음
+ * - 작업 안에서는 SchedulerLease.current() 로 펜싱 토큰/소유 여부 확인
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SchedulerLock {
+
+    /** 락 이름 (같은 이름 = 상호 배제) */
+    String name();
+
+    /** 임대 시간(초). 인스턴스가 죽으면 최대 이 시간 후 다른 인스턴스가 이어받는다 */
+    long leaseSeconds() default 60;
+}
@@ -0,0 +1,54 @@
+package com.gatieottae.backend.scheduler.lock;
+
+import com.gatieottae.backend.infra.redis.RedisLeaseStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * @SchedulerLock 메서드가 있는 빈을 프록시로 감싼다 (@Async 의 AsyncAnnotationBeanPostProcessor 와 같은 방식)
+ *
+ * - @Scheduled 처리기보다 먼저 실행되어야 스케줄러가 프록시를 호출한다 → HIGHEST_PRECEDENCE
+ * - Redis/지표 빈은 첫 실행 때 꺼낸다 (후처리기에서 미리 주입하면 해당 빈들이 프록시 대상에서 빠짐)
+ * - 임대 연장은 데몬 스레드 1개가 전담
+ */
+@Component
+public class SchedulerLockBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor
+        implements DisposableBean {
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "scheduler-lease-renew");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SchedulerLockBeanPostProcessor() {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SchedulerLock.class),
+                new SchedulerLockInterceptor(
+                        beanFactory.getBeanProvider(RedisLeaseStore.class),
+                        beanFactory.getBeanProvider(MeterRegistry.class),
+                        renewer));
+    }
+
+    @Override
+    public void destroy() {
+        renewer.shutdownNow();
+    }
+}
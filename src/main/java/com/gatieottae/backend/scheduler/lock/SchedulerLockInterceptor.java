@@ -0,0 +1,121 @@
+package com.gatieottae.backend.scheduler.lock;
+
+import com.gatieottae.backend.infra.redis.RedisLeaseStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @SchedulerLock 실행 래퍼: 획득 → (주기 연장) → 실행 → 해제
+ *
+ * - Redis 오류로 획득 여부를 모르면 실행하지 않는다 (중복 실행보다 한 주기 건너뛰기가 안전)
+ * - 지표
+ *   scheduler.lock.acquire{job, result=acquired|skipped|error}
+ *   scheduler.lock.lost{job}     : 실행 중 임대 연장 실패
+ *   scheduler.job.duration{job}  : 락을 잡고 실행한 시간 (히스토그램)
+ */
+@Slf4j
+class SchedulerLockInterceptor implements MethodInterceptor {
+
+    /** 이 인스턴스의 소유자 id (재시작하면 바뀜 → 죽은 프로세스의 락을 이어받지 않음) */
+    private static final String OWNER = UUID.randomUUID().toString();
+
+    private final ObjectProvider<RedisLeaseStore> leaseStore;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ScheduledExecutorService renewer;
+
+    SchedulerLockInterceptor(ObjectProvider<RedisLeaseStore> leaseStore,
+                             ObjectProvider<MeterRegistry> meterRegistry,
+                             ScheduledExecutorService renewer) {
+        this.leaseStore = leaseStore;
+        this.meterRegistry = meterRegistry;
+        this.renewer = renewer;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        SchedulerLock spec = AnnotatedElementUtils.findMergedAnnotation(invocation.getMethod(), SchedulerLock.class);
+        if (spec == null) return invocation.proceed();
+
+        String job = spec.name();
+        Duration ttl = Duration.ofSeconds(spec.leaseSeconds());
+        RedisLeaseStore store = leaseStore.getObject();
+        MeterRegistry registry = meterRegistry.getObject();
+
+        long token;
+        try {
+            token = store.tryAcquire(job, OWNER, ttl);
+        } catch (Exception e) {
+            acquireCounter(registry, job, "error").increment();
+            log.warn("[SchedulerLock] acquire failed, skipping run. job={}", job, e);
+            return null;
+        }
+        if (token == 0) {
+            acquireCounter(registry, job, "skipped").increment();
+            log.debug("[SchedulerLock] held elsewhere, skipping. job={}", job);
+            return null;
+        }
+        acquireCounter(registry, job, "acquired").increment();
+
+        SchedulerLease lease = new SchedulerLease(job, token);
+        long period = Math.max(1, ttl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(store, registry, lease, ttl), period, period, TimeUnit.MILLISECONDS);
+
+        Timer.Sample sample = Timer.start(registry);
+        SchedulerLease.bind(lease);
+        try {
+            return invocation.proceed();
+        } finally {
+            SchedulerLease.unbind();
+            renewal.cancel(false);
+            sample.stop(Timer.builder("scheduler.job.duration")
+                    .tag("job", job)
+                    .publishPercentileHistogram()
+                    .register(registry));
+            if (lease.isHeld()) {
+                try {
+                    store.release(job, OWNER, token);
+                } catch (Exception e) {
+                    // 임대 만료로 자연 해제
+                    log.warn("[SchedulerLock] release failed. job={}, token={}", job, token, e);
+                }
+            }
+        }
+    }
+
+    private void renew(RedisLeaseStore store, MeterRegistry registry, SchedulerLease lease, Duration ttl) {
+        if (!lease.isHeld()) return;
+        boolean ok;
+        try {
+            ok = store.renew(lease.name(), OWNER, lease.fencingToken(), ttl);
+        } catch (Exception e) {
+            // 일시 오류는 다음 주기에 재시도 (임대가 TTL 의 2/3 남아 있음)
+            log.warn("[SchedulerLock] renew error. job={}", lease.name(), e);
+            return;
+        }
+        if (!ok) {
+            lease.markLost();
+            Counter.builder("scheduler.lock.lost").tag("job", lease.name()).register(registry).increment();
+            log.warn("[SchedulerLock] lease lost while running. job={}, token={}", lease.name(), lease.fencingToken());
+        }
+    }
+
+    private static Counter acquireCounter(MeterRegistry registry, String job, String result) {
+        return Counter.builder("scheduler.lock.acquire")
+                .tag("job", job)
+                .tag("result", result)
+                .register(registry);
+    }
+}
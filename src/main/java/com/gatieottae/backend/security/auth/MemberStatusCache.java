@@ -0,0 +1,120 @@
+package com.gatieottae.backend.security.auth;
+
+import com.gatieottae.backend.domain.member.MemberStatus;
+import com.gatieottae.backend.repository.member.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * JWT 인증 필터용 회원 상태 캐시 (memberId → username + status)
+ *
+ * - 인스턴스 로컬 Caffeine, 짧은 TTL → 요청마다 DB 조회 없음
+ * - 상태 변경(차단/탈퇴 등) 커밋 후 evictAfterCommit → member:status:invalidate 발행 → 모든 인스턴스 무효화
+ * - 없는 회원도 캐시(NOT_FOUND) → 삭제된 회원 토큰 반복 요청도 DB 로 가지 않음
+ * - 발행이 실패해도 최대 TTL 이후에는 반영
+ */
+@Slf4j
+@Component
+public class MemberStatusCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "member:status:invalidate";
+    private static final Duration TTL = Duration.ofSeconds(60);
+    private static final long MAX_ENTRIES = 100_000;
+
+    /** 캐시 값 */
+    public record Entry(String username, MemberStatus status) {
+        public boolean isActive() {
+            return MemberStatus.ACTIVE.equals(status);
+        }
+    }
+
+    private static final Entry NOT_FOUND = new Entry(null, null);
+
+    private final MemberRepository memberRepository;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer container;
+    private final Cache<Long, Entry> cache = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .expireAfterWrite(TTL)
+            .build();
+    private final Counter hit;
+    private final Counter miss;
+
+    public MemberStatusCache(MemberRepository memberRepository,
+                             StringRedisTemplate redis,
+                             RedisMessageListenerContainer container,
+                             MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.redis = redis;
+        this.container = container;
+        this.hit = Counter.builder("auth.member.status.cache").tag("result", "hit").register(meterRegistry);
+        this.miss = Counter.builder("auth.member.status.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        container.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+        log.info("[Auth] Subscribed to {}", INVALIDATE_CHANNEL);
+    }
+
+    /** 회원이 없으면 null */
+    public Entry get(Long memberId) {
+        Entry cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            hit.increment();
+        } else {
+            miss.increment();
+            cached = cache.get(memberId, id -> memberRepository.findAuthViewById(id)
+                    .map(v -> new Entry(v.getUsername(), v.getStatus()))
+                    .orElse(NOT_FOUND));
+        }
+        return cached == NOT_FOUND ? null : cached;
+    }
+
+    /** 회원 상태 변경 후 호출. 트랜잭션 안이면 커밋 후 실행 */
+    public void evictAfterCommit(Long memberId) {
+        Runnable task = () -> {
+            cache.invalidate(memberId);
+            try {
+                redis.convertAndSend(INVALIDATE_CHANNEL, String.valueOf(memberId));
+            } catch (Exception e) {
+                log.warn("[Auth] failed to publish status invalidation. memberId={}", memberId, e);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(Long.valueOf(body));
+        } catch (NumberFormatException e) {
+            log.warn("[Auth] bad status invalidation message: {}", body);
+        }
+    }
+}
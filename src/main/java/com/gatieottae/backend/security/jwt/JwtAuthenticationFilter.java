@@ -1,10 +1,7 @@
 package com.gatieottae.backend.security.jwt;
 
-import com.gatieottae.backend.domain.member.Member;
-import com.gatieottae.backend.domain.member.MemberStatus;
-import com.gatieottae.backend.repository.member.MemberRepository;
-
 import com.gatieottae.backend.security.auth.LoginMember;
+import com.gatieottae.backend.security.auth.MemberStatusCache;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import io.jsonwebtoken.JwtException;
@@ -26,8 +23,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberStatusCache memberStatusCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,25 +37,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(token)) {
             try {
-                // 2) 토큰 파싱 및 유효성 검증 (서명/만료)
-                jwtTokenProvider.parseClaims(token);
+                // 2) 토큰 파싱 및 유효성 검증 (서명/만료) — 같은 토큰 재요청은 캐시된 검증 결과 사용
+                JwtTokenProvider.TokenClaims claims = verifiedTokenCache.verify(token);
 
                 // 3) 토큰 클레임에서 username, memberId 추출
-                String username = jwtTokenProvider.getUsername(token);
-                Long memberId   = jwtTokenProvider.getMemberId(token);
+                String username = claims.username();
+                Long memberId   = claims.memberId();
 
-                // 4) DB에서 사용자 조회 (id 기준)
-                Member m = memberRepository.findById(memberId).orElse(null);
+                // 4) 회원 상태 조회 (로컬 캐시, 미스일 때만 DB)
+                MemberStatusCache.Entry m = memberStatusCache.get(memberId);
 
                 // 4-1) 회원이 없거나 비활성 상태면 SecurityContext 비움
-                if (m == null || !MemberStatus.ACTIVE.equals(m.getStatus())) {
+                if (m == null || !m.isActive()) {
                     SecurityContextHolder.clearContext();
                     chain.doFilter(request, response);
                     return;
                 }
 
                 // 4-2) 토큰 username 과 DB username 불일치 → 위조 가능성 → 거부
-                if (!m.getUsername().equals(username)) {
+                if (!m.username().equals(username)) {
                     SecurityContextHolder.clearContext();
                     chain.doFilter(request, response);
                     return;
@@ -2,32 +2,40 @@ package com.gatieottae.backend.security.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
  * JWT 발급/검증 유틸리티
  * - Access/Refresh 각각 만료시간 다르게 적용
  * - subject = username, memberId는 커스텀 클레임("mid")
+ * - Refresh 는 패밀리 id("fid") + 토큰 id(jti)를 추가로 담음 → RefreshTokenService 가 회전/폐기 관리
+ * - 파서는 생성 시 한 번만 만들어 재사용 (JwtParser 는 불변/스레드 안전)
  */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser parser;
     private final long accessTtlMillis;
     private final long refreshTtlMillis;
     private static final String ISSUER = "gatieottae";
     private static final String CLAIM_MEMBER_ID = "mid";
+    private static final String CLAIM_FAMILY_ID = "fid";
 
     public JwtTokenProvider(JwtProperties props) {
         this.key = Keys.hmacShaKeyFor(props.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTtlMillis = props.getExpiration().getAccess();
         this.refreshTtlMillis = props.getExpiration().getRefresh();
     }
@@ -37,9 +45,26 @@ public class JwtTokenProvider {
         return buildToken(username, memberId, accessTtlMillis);
     }
 
-    /** Refresh Token 발급 */
-    public String generateRefreshToken(String username, Long memberId) {
-        return buildToken(username, memberId, refreshTtlMillis);
+    /** Refresh Token 발급 (패밀리/토큰 id 는 RefreshTokenService 가 관리) */
+    public String generateRefreshToken(String username, Long memberId, String familyId, String tokenId) {
+        Instant now = Instant.now();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_MEMBER_ID, memberId);
+        claims.put(CLAIM_FAMILY_ID, familyId);
+
+        return Jwts.builder()
+                .issuer(ISSUER)
+                .subject(username)
+                .id(tokenId)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plusMillis(refreshTtlMillis)))
+                .claims(claims)
+                .signWith(key)
+                .compact();
+    }
+
+    public Duration getRefreshTtl() {
+        return Duration.ofMillis(refreshTtlMillis);
     }
 
     /** 공통 토큰 빌드 */
@@ -57,13 +82,40 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /** 인증에 필요한 값만 추린 검증 결과 */
+    public record TokenClaims(String username, Long memberId, Instant expiresAt) {}
+
     /** Claims 파싱(시그니처/만료 검증 포함) */
     public Claims parseClaims(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * 한 번 파싱해서 username/memberId/만료 시각을 함께 꺼냄 (요청 인증 경로용)
+     * - 서명이 맞아도 mid/exp 가 없으면 거부 (캐시 키/만료 계산에서 NPE → 500 이 나지 않도록)
+     * - fid 가 있는 토큰(Refresh)은 거부 → 폐기된 패밀리의 Refresh 토큰으로 API/WS 인증 불가
+     */
+    public TokenClaims parse(String token) throws JwtException {
+        Claims c = parseClaims(token);
+        if (c.get(CLAIM_FAMILY_ID) != null) throw new JwtException("refresh token is not an access token");
+        Long memberId = memberIdOf(c);
+        if (memberId == null) throw new JwtException("missing mid claim");
+        if (c.getExpiration() == null) throw new JwtException("missing exp claim");
+        return new TokenClaims(c.getSubject(), memberId, c.getExpiration().toInstant());
+    }
+
+    /** Refresh 토큰 검증 결과 */
+    public record RefreshClaims(String username, Long memberId, String familyId, String tokenId) {}
+
+    /**
+     * Refresh 토큰 파싱 (서명/만료 검증 포함)
+     * - fid/jti 가 없는 토큰(Access 토큰, 회전 도입 전 발급분)은 거부
+     */
+    public RefreshClaims parseRefresh(String token) throws JwtException {
+        Claims c = parseClaims(token);
+        Object fid = c.get(CLAIM_FAMILY_ID);
+        if (fid == null || c.getId() == null) throw new JwtException("not a refresh token");
+        return new RefreshClaims(c.getSubject(), memberIdOf(c), fid.toString(), c.getId());
     }
 
     /** 토큰 유효성 검사 */
@@ -71,7 +123,7 @@ public class JwtTokenProvider {
         try {
             parseClaims(token);
             return true;
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
@@ -83,7 +135,11 @@ public class JwtTokenProvider {
 
     /** memberId(mid) 추출 */
     public Long getMemberId(String token) {
-        Object v = parseClaims(token).get(CLAIM_MEMBER_ID);
-        return (v instanceof Integer) ? ((Integer) v).longValue() : (Long) v;
+        return memberIdOf(parseClaims(token));
+    }
+
+    private static Long memberIdOf(Claims claims) {
+        Object v = claims.get(CLAIM_MEMBER_ID);
+        return (v instanceof Number n) ? n.longValue() : null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.gatieottae.backend.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 검증 완료된 토큰 캐시 (HTTP 필터 / STOMP CONNECT 공용)
+ *
+ * - 키: 토큰 전체(서명 포함)의 SHA-256 다이제스트 → 토큰 원문을 메모리에 들고 있지 않음
+ *   서명이 한 글자라도 다르면 다른 키라 위조 토큰은 항상 검증 경로로 간다
+ * - 값: 서명/만료 검증을 통과한 TokenClaims, 토큰 exp 시각에 만료
+ * - 검증 실패는 캐시하지 않음 (예외 그대로 전파)
+ * - 지표: cache.* {cache=jwt.verified} (hit/miss/size/eviction)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final long MAX_ENTRIES = 50_000;
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, JwtTokenProvider.TokenClaims> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /** 캐시 히트면 검증 생략, 미스면 JwtTokenProvider 로 검증 후 적재 */
+    public JwtTokenProvider.TokenClaims verify(String token) throws JwtException {
+        String key = digest(token);
+        JwtTokenProvider.TokenClaims cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) return cached;
+
+        JwtTokenProvider.TokenClaims claims = jwtTokenProvider.parse(token);
+        cache.put(key, claims);
+        return claims;
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /** 항목별 만료 = 토큰 exp 까지 남은 시간 */
+    private static final class UntilTokenExpiry implements Expiry<String, JwtTokenProvider.TokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, JwtTokenProvider.TokenClaims value, long currentTime) {
+            long remainingMs = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return Math.max(0, remainingMs) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtTokenProvider.TokenClaims value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtTokenProvider.TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
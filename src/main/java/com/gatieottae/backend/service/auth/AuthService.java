@@ -6,10 +6,11 @@ import com.gatieottae.backend.common.exception.ConflictException;
 import com.gatieottae.backend.common.exception.ErrorCode;
 import com.gatieottae.backend.domain.member.Member;
 import com.gatieottae.backend.repository.member.MemberRepository;
+import com.gatieottae.backend.security.auth.MemberStatusCache;
 import com.gatieottae.backend.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import com.gatieottae.backend.common.exception.BadRequestException;
@@ -35,8 +36,10 @@ import com.gatieottae.backend.domain.member.MemberStatus;
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder; // SecurityConfig에 @Bean 등록됨
+    private final PasswordHasher passwordHasher;   // BCrypt 전용 풀에서 해시/검증 (과부하 시 503)
     private final JwtTokenProvider jwtTokenProvider; // JWT 발급/검증 유틸
+    private final RefreshTokenService refreshTokenService; // refresh 패밀리(회전/폐기)
+    private final MemberStatusCache memberStatusCache;     // refresh 시 DB 대신 상태 확인
 
     /**
      * 회원가입 유스케이스
@@ -45,8 +48,11 @@ public class AuthService {
      * 3) 비밀번호 해시(BCrypt)
      * 4) Member 엔티티 생성 및 저장
      * 5) 응답 DTO로 변환하여 반환
+     *
+     * 해시 대기 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (중복 검증/저장은 각자 짧은 트랜잭션, login 과 동일)
+     * 중복 검증과 저장 사이의 경합은 username/email 유니크 제약이 막는다
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupDto.SignupResponse signup(SignupDto.SignupRequest req) {
         // 1) 입력 정규화 (공백 제거, 빈 문자열 → null)
         final String username = trim(req.getUsername());
@@ -64,7 +70,7 @@ public class AuthService {
         }
 
         // 3) 비밀번호 해시(BCrypt)
-        final String passwordHash = passwordEncoder.encode(rawPw);
+        final String passwordHash = passwordHasher.encode(rawPw);
 
         // 4) 엔티티 조립 (엔티티는 '상태'를 표현, 해시는 평문 대신 저장)
         Member member = Member.builder()
@@ -86,11 +92,14 @@ public class AuthService {
      * 로그인 유스케이스
      * 1) username 정규화/조회
      * 2) 계정 상태 확인 (ACTIVE만 허용)
-     * 3) 비밀번호(BCrypt) 검증
+     * 3) 비밀번호(BCrypt) 검증 — 전용 풀에서 실행, 포화 시 503
+     * 3-1) 저장된 해시의 cost 가 설정값보다 낮으면 백그라운드로 재해시해서 저장 (포화면 건너뜀)
      * 4) access/refresh 발급 후 응답 DTO 반환
      *
      * 보안상 이유로 "아이디/비번 중 무엇이 틀렸는지"는 구체적으로 말하지 않는다.
+     * 해시 대기 중 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행 (조회/갱신은 각자 짧은 트랜잭션)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginDto.LoginResponse login(LoginDto.LoginRequest req) {
         final String username = trim(req.getUsername());
         final String rawPw    = req.getPassword();
@@ -107,14 +116,22 @@ public class AuthService {
         }
 
         // 3) 비밀번호 검증(BCrypt)
-        if (!passwordEncoder.matches(rawPw, m.getPasswordHash())) {
+        if (!passwordHasher.matches(rawPw, m.getPasswordHash())) {
             throw new BadRequestException(
                     ErrorCode.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // 3-1) cost 상향 반영 (best-effort, 응답을 기다리게 하지 않음. 다른 요청이 먼저 바꿨으면 조건부 UPDATE 가 0건)
+        if (passwordHasher.needsRehash(m.getPasswordHash())) {
+            final Long memberId = m.getId();
+            final String oldHash = m.getPasswordHash();
+            passwordHasher.rehashInBackground(rawPw,
+                    newHash -> memberRepository.updatePasswordHash(memberId, oldHash, newHash));
+        }
+
         // 4) JWT 발급
         String accessToken  = jwtTokenProvider.generateAccessToken(m.getUsername(), m.getId());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(m.getUsername(), m.getId());
+        String refreshToken = refreshTokenService.issue(m.getId(), m.getUsername());
 
         return LoginDto.LoginResponse.builder()
                 .tokenType("Bearer")
@@ -124,45 +141,47 @@ public class AuthService {
     }
 
     /**
-     * 토큰 재발급 유스케이스
-     * 1) refreshToken 유효성 검증 (시그니처/만료 확인)
-     * 2) refreshToken에서 subject(username)와 memberId 추출
-     * 3) DB에서 사용자 조회 → 상태 확인
-     * 4) 새 accessToken 발급 (refreshToken은 그대로 반환)
+     * 토큰 재발급 유스케이스 (refresh 회전)
+     * 1) refreshToken 서명/만료 검증 + fid/jti 추출
+     * 2) 회원 상태 확인 (로컬 캐시, DB 조회 없음)
+     * 3) Redis 에서 회전 (현재 jti 일 때만) — 이미 쓰인 토큰이면 패밀리 폐기 후 401
+     * 4) 새 accessToken + 새 refreshToken 반환
      */
     public LoginDto.LoginResponse refresh(String refreshToken) {
-        // 1) refreshToken 유효성 검증
-        if (!jwtTokenProvider.validate(refreshToken)) {
-            throw new BadRequestException(ErrorCode.UNAUTHORIZED, "유효하지 않은 refreshToken 입니다.");
-        }
-
-        // 2) refreshToken에서 username, memberId 추출
-        String username = jwtTokenProvider.getUsername(refreshToken);
-        Long memberId   = jwtTokenProvider.getMemberId(refreshToken);
-
-        // 3) 사용자 조회 + 상태 확인
-        Member m = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BadRequestException(ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
+        // 1) refreshToken 검증
+        JwtTokenProvider.RefreshClaims claims = refreshTokenService.verify(refreshToken);
 
-        if (!m.getUsername().equals(username)) {
+        // 2) 사용자 상태 확인
+        MemberStatusCache.Entry m = memberStatusCache.get(claims.memberId());
+        if (m == null) {
+            throw new BadRequestException(ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다.");
+        }
+        if (!m.username().equals(claims.username())) {
             // 토큰의 username과 DB 불일치 → 위조 가능성
             throw new BadRequestException(ErrorCode.UNAUTHORIZED, "토큰 정보가 올바르지 않습니다.");
         }
-
-        if (m.getStatus() != MemberStatus.ACTIVE) {
+        if (!m.isActive()) {
             throw new ConflictException(ErrorCode.FORBIDDEN, "비활성화된 사용자입니다.");
         }
 
+        // 3) 회전
+        String newRefreshToken = refreshTokenService.rotate(claims);
+
         // 4) 새 Access Token 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(m.getUsername(), m.getId());
+        String newAccessToken = jwtTokenProvider.generateAccessToken(claims.username(), claims.memberId());
 
         return LoginDto.LoginResponse.builder()
                 .tokenType("Bearer")
                 .accessToken(newAccessToken)
-                .refreshToken(refreshToken) // refreshToken은 그대로 반환
+                .refreshToken(newRefreshToken)
                 .build();
     }
 
+    /** 로그아웃: 해당 refreshToken 패밀리 폐기 (모든 노드에 즉시 반영) */
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
     public com.gatieottae.backend.domain.member.Member getMemberById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new com.gatieottae.backend.common.exception.BadRequestException(com.gatieottae.backend.common.exception.ErrorCode.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
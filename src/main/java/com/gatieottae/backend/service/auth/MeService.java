@@ -1,5 +1,6 @@
 package com.gatieottae.backend.service.auth;
 
+import com.gatieottae.backend.domain.group.GroupDetailService;
 import com.gatieottae.backend.domain.member.Member;
 import com.gatieottae.backend.repository.member.MemberRepository;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class MeService {
     private final MemberRepository memberRepository;
+    private final GroupDetailService groupDetailService;
 
     @Transactional(readOnly = true)
     public Member getMeByUsername(String username) {
@@ -25,6 +27,7 @@ public class MeService {
         }
         Member m = getMeByUsername(username);
         m.changeName(trimmed); // JPA 변경 감지
+        groupDetailService.invalidateForMemberAfterCommit(m.getId()); // 그룹 홈의 표시 이름 갱신
         return m;
     }
 }
\ No newline at end of file
@@ -0,0 +1,136 @@
+package com.gatieottae.backend.service.auth;
+
+import com.gatieottae.backend.common.exception.ServiceUnavailableException;
+import com.gatieottae.backend.config.AsyncConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시/검증 실행기
+ *
+ * - BCrypt 는 CPU 를 오래 쓰므로 요청 스레드가 아니라 passwordHashExecutor(코어 수만큼)에서 실행
+ * - 큐가 가득 차거나 대기 시간이 WAIT_TIMEOUT 을 넘으면 503 + Retry-After → 로그인 폭주가 다른 API 를 굶기지 않음
+ * - 지표(히스토그램)
+ *   auth.password.hash{op=verify|encode} : 해시 연산 시간
+ *   auth.password.hash.queue              : 큐 대기 시간
+ *   auth.password.hash.rejected           : 거절 수
+ *   auth.password.rehash.skipped          : 포화로 건너뛴 재해시 수
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private static final long RETRY_AFTER_SECONDS = 2;
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final String BUSY_MESSAGE = "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer verifyTimer;
+    private final Timer encodeTimer;
+    private final Timer queueTimer;
+    private final Counter rejected;
+    private final Counter rehashSkipped;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Qualifier(AsyncConfig.PASSWORD_HASH_EXECUTOR) ThreadPoolTaskExecutor executor,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.verifyTimer = histogram("auth.password.hash", meterRegistry, "verify");
+        this.encodeTimer = histogram("auth.password.hash", meterRegistry, "encode");
+        this.queueTimer = histogram("auth.password.hash.queue", meterRegistry, null);
+        this.rejected = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+        this.rehashSkipped = Counter.builder("auth.password.rehash.skipped").register(meterRegistry);
+    }
+
+    public boolean matches(String raw, String hash) {
+        return run(verifyTimer, () -> passwordEncoder.matches(raw, hash));
+    }
+
+    public String encode(String raw) {
+        return run(encodeTimer, () -> passwordEncoder.encode(raw));
+    }
+
+    /**
+     * cost 상향용 재해시 (best-effort, 응답을 기다리게 하지 않음)
+     * - 풀에 대기 중인 작업이 있으면(포화) 건너뜀 → 로그인 검증 몫을 빼앗지 않고, 다음 로그인 때 다시 시도
+     * - 실패는 로그만 남김 (이미 검증된 로그인에 영향 없음)
+     */
+    public void rehashInBackground(String raw, Consumer<String> onHashed) {
+        if (executor.getQueueSize() > 0) {
+            rehashSkipped.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    onHashed.accept(encodeTimer.recordCallable(() -> passwordEncoder.encode(raw)));
+                } catch (Exception e) {
+                    log.warn("[PasswordHasher] background rehash failed", e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rehashSkipped.increment();
+        }
+    }
+
+    /** 저장된 해시의 cost 가 설정값보다 낮으면 true (검증 성공 후에만 호출) */
+    public boolean needsRehash(String hash) {
+        try {
+            return passwordEncoder.upgradeEncoding(hash);
+        } catch (IllegalArgumentException e) {
+            return false; // BCrypt 형식이 아님(소셜 플레이스홀더 등)
+        }
+    }
+
+    private <T> T run(Timer timer, Callable<T> task) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, RETRY_AFTER_SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException(BUSY_MESSAGE, RETRY_AFTER_SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("password hashing failed", e.getCause());
+        }
+    }
+
+    private static Timer histogram(String name, MeterRegistry registry, String op) {
+        Timer.Builder b = Timer.builder(name).publishPercentileHistogram();
+        if (op != null) b.tag("op", op);
+        return b.register(registry);
+    }
+}
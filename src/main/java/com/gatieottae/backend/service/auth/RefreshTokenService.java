@@ -0,0 +1,80 @@
+package com.gatieottae.backend.service.auth;
+
+import com.gatieottae.backend.common.exception.BadRequestException;
+import com.gatieottae.backend.common.exception.ErrorCode;
+import com.gatieottae.backend.infra.redis.RefreshTokenStore;
+import com.gatieottae.backend.security.jwt.JwtTokenProvider;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Refresh 토큰 발급/회전/폐기
+ *
+ * - 발급: 새 패밀리(fid) + 토큰 id(jti) 를 Redis 에 등록 후 JWT 로 서명
+ * - 회전: 제시된 jti 가 패밀리의 현재 jti 와 같을 때만 새 jti 로 교체 (Redis Lua 1회)
+ * - 재사용(이미 회전된 토큰 제시) → 패밀리 전체 폐기, 정상 사용자도 다시 로그인해야 함
+ * - Access 토큰은 여전히 무상태 (폐기 후에도 만료 시각까지는 유효)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore store;
+
+    /** 로그인 시 새 패밀리로 발급 */
+    public String issue(Long memberId, String username) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        store.create(familyId, memberId, tokenId, jwtTokenProvider.getRefreshTtl());
+        return jwtTokenProvider.generateRefreshToken(username, memberId, familyId, tokenId);
+    }
+
+    /** 서명/만료 검증 (Redis 조회 전) */
+    public JwtTokenProvider.RefreshClaims verify(String refreshToken) {
+        try {
+            return jwtTokenProvider.parseRefresh(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    /** 회전: 같은 패밀리의 새 refresh 토큰 반환 */
+    public String rotate(JwtTokenProvider.RefreshClaims claims) {
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshTokenStore.RotateResult result =
+                store.rotate(claims.familyId(), claims.tokenId(), newTokenId, jwtTokenProvider.getRefreshTtl());
+
+        switch (result) {
+            case ROTATED -> {
+                return jwtTokenProvider.generateRefreshToken(
+                        claims.username(), claims.memberId(), claims.familyId(), newTokenId);
+            }
+            case REUSED -> {
+                log.warn("[Auth] refresh token reuse detected, family revoked. memberId={}, familyId={}",
+                        claims.memberId(), claims.familyId());
+                throw invalid();
+            }
+            default -> throw invalid();
+        }
+    }
+
+    /** 로그아웃: 이 토큰의 패밀리 폐기 (서명이 유효한 토큰만) */
+    public void revoke(String refreshToken) {
+        store.revoke(verify(refreshToken).familyId());
+    }
+
+    /** 회원의 모든 refresh 토큰 폐기 */
+    public void revokeAll(Long memberId) {
+        store.revokeAll(memberId);
+    }
+
+    private static BadRequestException invalid() {
+        return new BadRequestException(ErrorCode.UNAUTHORIZED, "유효하지 않은 refreshToken 입니다.");
+    }
+}
@@ -1,14 +1,26 @@
 package com.gatieottae.backend.service.oauth;
 
+import com.gatieottae.backend.common.exception.BadRequestException;
+import com.gatieottae.backend.common.exception.ErrorCode;
+import com.gatieottae.backend.common.exception.ServiceUnavailableException;
+import com.gatieottae.backend.common.util.CircuitBreaker;
 import com.gatieottae.backend.config.KakaoOAuthProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
 
 /**
  * 카카오 OAuth용 경량 클라이언트
@@ -18,49 +30,117 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * 설계 이유
  * - spring-security-oauth2-client 풀스택을 쓰지 않고, 기존 JWT 발급 구조에 최소 침습으로 연동
  * - 테스트/디버깅/에러 로깅 제어가 쉬움
+ *
+ * 논블로킹
+ * - block() 하지 않고 Mono 로 반환 → 컨트롤러가 그대로 반환하면 카카오 응답을 기다리는 동안 Tomcat 스레드를 점유하지 않음
+ * - 서킷 브레이커: 연속 실패(타임아웃/5xx/연결 실패/429)가 쌓이면 일정 시간 즉시 503 + Retry-After
+ *   4xx(잘못된/만료된 code 등)는 카카오가 정상 응답한 것이므로 실패로 세지 않고 401 로 변환
+ * - 지표: oauth.kakao.request{op, outcome}, oauth.kakao.circuit.state(0=closed,1=half_open,2=open), oauth.kakao.circuit.rejected
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoOAuthClient {
 
+    private static final String UNAVAILABLE_MESSAGE = "카카오 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해 주세요.";
+
     private final KakaoOAuthProperties props;
     private final WebClient kakaoWebClient;
+    private final CircuitBreaker breaker;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+
+    public KakaoOAuthClient(KakaoOAuthProperties props,
+                            WebClient kakaoWebClient,
+                            MeterRegistry meterRegistry,
+                            @Value("${oauth.kakao.circuit.failure-threshold:5}") int failureThreshold,
+                            @Value("${oauth.kakao.circuit.open-seconds:30}") long openSeconds) {
+        this.props = props;
+        this.kakaoWebClient = kakaoWebClient;
+        this.meterRegistry = meterRegistry;
+        this.breaker = new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds));
+        this.rejected = Counter.builder("oauth.kakao.circuit.rejected").register(meterRegistry);
+        Gauge.builder("oauth.kakao.circuit.state", breaker, b -> switch (b.state()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .register(meterRegistry);
+    }
+
+    /** code → 토큰 교환 → 사용자 조회 */
+    public Mono<KakaoUser> fetchUser(String code) {
+        return exchangeToken(code)
+                .flatMap(token -> me(token.getAccess_token()))
+                .switchIfEmpty(Mono.error(() -> new ServiceUnavailableException(UNAVAILABLE_MESSAGE, 1)));
+    }
 
     /** code로 카카오 토큰 교환 */
-    public TokenResponse exchangeToken(String code) {
-        try {
-            return kakaoWebClient.post()
-                    .uri(props.getTokenUri())
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData("grant_type", "authorization_code")
-                            .with("client_id", props.getClientId())
-                            .with("redirect_uri", props.getRedirectUri())
-                            .with("code", code)
-                            // 시크릿이 있을 때만 전송
-                            .with("client_secret", props.hasClientSecret() ? props.getClientSecret() : ""))
-                    .retrieve()
-                    .bodyToMono(TokenResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.warn("Kakao token exchange failed: status={}, body={}", e.getRawStatusCode(), e.getResponseBodyAsString());
-            throw e;
-        }
+    public Mono<TokenResponse> exchangeToken(String code) {
+        return guarded("token", kakaoWebClient.post()
+                .uri(props.getTokenUri())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("grant_type", "authorization_code")
+                        .with("client_id", props.getClientId())
+                        .with("redirect_uri", props.getRedirectUri())
+                        .with("code", code)
+                        // 시크릿이 있을 때만 전송
+                        .with("client_secret", props.hasClientSecret() ? props.getClientSecret() : ""))
+                .retrieve()
+                .bodyToMono(TokenResponse.class));
     }
 
     /** 액세스 토큰으로 카카오 사용자 정보 조회 */
-    public KakaoUser me(String accessToken) {
-        try {
-            return kakaoWebClient.get()
-                    .uri(props.getUserInfoUri())
-                    .headers(h -> h.setBearerAuth(accessToken))
-                    .retrieve()
-                    .bodyToMono(KakaoUser.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.warn("Kakao userinfo failed: status={}, body={}", e.getRawStatusCode(), e.getResponseBodyAsString());
-            throw e;
+    public Mono<KakaoUser> me(String accessToken) {
+        return guarded("me", kakaoWebClient.get()
+                .uri(props.getUserInfoUri())
+                .headers(h -> h.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(KakaoUser.class));
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return breaker.state();
+    }
+
+    /** 서킷 확인 → 호출 → 결과를 서킷/지표에 반영하고 예외를 우리 규격으로 변환 */
+    private <T> Mono<T> guarded(String op, Mono<T> call) {
+        return Mono.defer(() -> {
+            if (!breaker.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new ServiceUnavailableException(UNAVAILABLE_MESSAGE, breaker.retryAfterSeconds()));
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(v -> {
+                        breaker.onSuccess();
+                        sample.stop(timer(op, "success"));
+                    })
+                    .doOnCancel(breaker::release)
+                    .onErrorMap(e -> translate(op, e, sample));
+        });
+    }
+
+    private Throwable translate(String op, Throwable e, Timer.Sample sample) {
+        if (e instanceof WebClientResponseException re
+                && re.getStatusCode().is4xxClientError()
+                && re.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+            breaker.onSuccess();
+            sample.stop(timer(op, "rejected"));
+            log.warn("Kakao {} rejected: status={}, body={}", op, re.getStatusCode().value(), re.getResponseBodyAsString());
+            return new BadRequestException(ErrorCode.UNAUTHORIZED, "카카오 인증에 실패했습니다. 다시 로그인해 주세요.");
         }
+        breaker.onFailure();
+        sample.stop(timer(op, "error"));
+        log.warn("Kakao {} failed (circuit={}): {}", op, breaker.state(), e.toString());
+        return new ServiceUnavailableException(UNAVAILABLE_MESSAGE, breaker.retryAfterSeconds());
+    }
+
+    private Timer timer(String op, String outcome) {
+        return Timer.builder("oauth.kakao.request")
+                .tag("op", op)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     // ===== 카카오 응답 DTO =====
@@ -99,4 +179,4 @@ public class KakaoOAuthClient {
             private String profile_image;  // 구버전 호환
         }
     }
-}
\ No newline at end of file
+}
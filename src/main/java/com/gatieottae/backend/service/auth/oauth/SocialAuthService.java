@@ -4,6 +4,7 @@ import com.gatieottae.backend.domain.member.Member;
 import com.gatieottae.backend.domain.member.MemberStatus;
 import com.gatieottae.backend.repository.member.MemberRepository;
 import com.gatieottae.backend.security.jwt.JwtTokenProvider;
+import com.gatieottae.backend.service.auth.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ public class SocialAuthService {
 
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider; // ✅ JwtTokenProvider 사용
+    private final RefreshTokenService refreshTokenService; // refresh 는 패밀리 등록 후 발급
 
     @Transactional
     public LoginResult loginWithKakao(Long kakaoUserId, String email, String nickname, String profileImage) {
@@ -47,7 +49,7 @@ public class SocialAuthService {
 
         // ✅ 여기만 교체
         String accessToken  = jwtTokenProvider.generateAccessToken(member.getUsername(), member.getId());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(member.getUsername(), member.getId());
+        String refreshToken = refreshTokenService.issue(member.getId(), member.getUsername());
 
         return new LoginResult(accessToken, refreshToken, member);
     }
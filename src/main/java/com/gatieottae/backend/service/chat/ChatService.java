@@ -5,8 +5,8 @@ import com.gatieottae.backend.api.chat.dto.ChatMessageDto;
 import com.gatieottae.backend.api.chat.dto.SendMessageRequestDto;
 import com.gatieottae.backend.api.chat.dto.SendMessageResponseDto;
 import com.gatieottae.backend.domain.chat.ChatMessage;
+import com.gatieottae.backend.domain.group.GroupMembershipCache;
 import com.gatieottae.backend.repository.chat.ChatMessageRepository;
-import com.gatieottae.backend.repository.group.GroupMemberRepository;
 import com.gatieottae.backend.service.notification.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -23,7 +23,7 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final NotificationService notificationService;
-    private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipCache membershipCache;
     /**
      * 메시지 전송 (DB 저장 + 실시간 브로드캐스트)
      * - 요구: JWT 인증으로부터 memberId 추출 (Controller에서 주입)
@@ -48,14 +48,13 @@ public class ChatService {
 
         messagingTemplate.convertAndSend("/topic/groups/" + groupId + "/chat", payload);
 
-        // ✅ 그룹 멤버 조회 (예: groupMemberRepository 등)
-        List<Long> memberIds = groupMemberRepository.findMemberIdsByGroupId(groupId);
+        // ✅ 그룹 멤버 조회 (멤버십 캐시 → 대부분 메모리 조회)
         // ✅ 본인 제외 후 알림 발송
-        for (Long memberId : memberIds) {
-            if (!memberId.equals(senderId)) {
+        membershipCache.memberIdsOf(groupId).forEach(memberId -> {
+            if (memberId != senderId) {
                 notificationService.notifyUserGroupMessage(memberId, groupId, senderId, saved.getContent());
             }
-        }
+        });
 
         return SendMessageResponseDto.builder()
                 .id(saved.getId())
@@ -1,7 +1,10 @@
 package com.gatieottae.backend.service.expense;
 
+import com.gatieottae.backend.api.expense.dto.ExpenseBatchRequestDto;
+import com.gatieottae.backend.api.expense.dto.ExpenseBatchResponseDto;
 import com.gatieottae.backend.api.expense.dto.ExpenseRequestDto;
 import com.gatieottae.backend.api.expense.dto.ExpenseResponseDto;
+import com.gatieottae.backend.common.exception.BadRequestException;
 import com.gatieottae.backend.common.exception.ConflictException;
 import com.gatieottae.backend.domain.expense.Expense;
 import com.gatieottae.backend.domain.expense.ExpenseShare;
@@ -10,13 +13,23 @@ import com.gatieottae.backend.domain.expense.TransferStatus;
 import com.gatieottae.backend.repository.expense.ExpenseRepository;
 import com.gatieottae.backend.repository.expense.TransferRepository;
 import com.gatieottae.backend.service.notification.NotificationService;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,10 +37,17 @@ import java.util.stream.Collectors;
 @Transactional
 public class ExpenseService {
 
+    /** 일괄 등록 최대 건수 / flush 주기(hibernate.jdbc.batch_size 와 동일) */
+    private static final int BATCH_MAX_ITEMS = 500;
+    private static final int BATCH_FLUSH_SIZE = 50;
+
     private final ExpenseRepository expenseRepository;
     private final TransferRepository transferRepository;
     private final NotificationService notificationService;
 
+    @PersistenceContext
+    private EntityManager em;
+
     public ExpenseResponseDto createExpense(ExpenseRequestDto request) {
         // 1. 분담금 합계 검증
         long totalShares = request.getShares().stream()
@@ -39,28 +59,67 @@ public class ExpenseService {
         }
 
         // 2. 엔티티 생성
-        Expense expense = Expense.builder()
-                .groupId(request.getGroupId())
-                .title(request.getTitle())
-                .amount(request.getAmount())
-                .paidBy(request.getPaidBy())
-                .paidAt(OffsetDateTime.now())
-                .build();
-
-        request.getShares().forEach(s ->
-                expense.addShare(
-                        ExpenseShare.builder()
-                                .memberId(s.getMemberId())
-                                .shareAmount(s.getShareAmount())
-                                .build()
-                )
-        );
+        Expense expense = toEntity(request.getGroupId(), request, OffsetDateTime.now());
 
         // 3. 저장
         Expense saved = expenseRepository.save(expense);
         return toResponse(saved);
     }
 
+    /**
+     * 지출 일괄 등록 (영수증 일괄 업로드 등)
+     * - 모든 항목을 메모리에서 먼저 검증 → 실패 건은 REJECTED 로 응답하고 나머지만 저장
+     * - 저장은 한 트랜잭션, BATCH_FLUSH_SIZE 단위로 flush/clear
+     *   (SEQUENCE 풀링 ID + hibernate.jdbc.batch_size/order_inserts 로 expense, expense_share 각각 배치 INSERT)
+     * - DB 오류 시 전체 롤백(부분 커밋 없음)
+     */
+    public ExpenseBatchResponseDto createExpenses(Long groupId, ExpenseBatchRequestDto request) {
+        List<ExpenseRequestDto> items = (request != null && request.getItems() != null) ? request.getItems() : List.of();
+        if (items.size() > BATCH_MAX_ITEMS) {
+            throw new BadRequestException("한 번에 등록할 수 있는 지출은 최대 " + BATCH_MAX_ITEMS + "건입니다.");
+        }
+
+        ExpenseBatchResponseDto.Item[] results = new ExpenseBatchResponseDto.Item[items.size()];
+        List<Expense> pending = new ArrayList<>(items.size());
+        List<Integer> pendingIndexes = new ArrayList<>(items.size());
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // 1. 메모리 검증
+        for (int i = 0; i < items.size(); i++) {
+            ExpenseRequestDto item = items.get(i);
+            String reason = validateForBatch(item);
+            if (reason != null) {
+                results[i] = ExpenseBatchResponseDto.Item.builder()
+                        .index(i).result(ExpenseBatchResponseDto.Result.REJECTED).reason(reason).build();
+                continue;
+            }
+            pending.add(toEntity(groupId, item, now));
+            pendingIndexes.add(i);
+        }
+
+        // 2. 청크 단위 저장 (영속성 컨텍스트가 커지지 않도록 flush 후 clear)
+        for (int from = 0; from < pending.size(); from += BATCH_FLUSH_SIZE) {
+            int to = Math.min(from + BATCH_FLUSH_SIZE, pending.size());
+            List<Expense> chunk = pending.subList(from, to);
+            expenseRepository.saveAll(chunk);
+            expenseRepository.flush();
+
+            for (int k = from; k < to; k++) {
+                int index = pendingIndexes.get(k);
+                results[index] = ExpenseBatchResponseDto.Item.builder()
+                        .index(index).result(ExpenseBatchResponseDto.Result.CREATED).id(pending.get(k).getId()).build();
+            }
+            em.clear();
+        }
+
+        return ExpenseBatchResponseDto.builder()
+                .requested(items.size())
+                .created(pending.size())
+                .rejected(items.size() - pending.size())
+                .items(Arrays.asList(results))
+                .build();
+    }
+
     public ExpenseResponseDto getExpense(Long id) {
         Expense expense = expenseRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Expense not found"));
@@ -81,16 +140,8 @@ public class ExpenseService {
         expense.setAmount(request.getAmount());
         expense.setPaidBy(request.getPaidBy());
 
-        // shares 교체
-        expense.getShares().clear();
-        request.getShares().forEach(s ->
-                expense.addShare(
-                        ExpenseShare.builder()
-                                .memberId(s.getMemberId())
-                                .shareAmount(s.getShareAmount())
-                                .build()
-                )
-        );
+        // shares 병합 (memberId 기준 diff → 변경분만 UPDATE/INSERT/DELETE)
+        mergeShares(expense, request.getShares());
 
         return toResponse(expense);
     }
@@ -119,6 +170,85 @@ public class ExpenseService {
         expenseRepository.delete(expense);
     }
 
+    private Expense toEntity(Long groupId, ExpenseRequestDto request, OffsetDateTime paidAt) {
+        Expense expense = Expense.builder()
+                .groupId(groupId)
+                .title(request.getTitle())
+                .amount(request.getAmount())
+                .paidBy(request.getPaidBy())
+                .paidAt(paidAt)
+                .build();
+
+        request.getShares().forEach(s ->
+                expense.addShare(
+                        ExpenseShare.builder()
+                                .memberId(s.getMemberId())
+                                .shareAmount(s.getShareAmount())
+                                .build()
+                )
+        );
+        return expense;
+    }
+
+    /**
+     * 분담 내역을 memberId 기준으로 병합한다.
+     * - 요청에 없는 멤버: 컬렉션에서 제거 → orphanRemoval 로 DELETE
+     * - 금액이 바뀐 멤버: 값만 변경 → dirty checking 으로 UPDATE
+     * - 새 멤버: addShare → INSERT
+     * - 변동 없는 행은 건드리지 않으므로 제목만 바꾼 수정은 expense_share 에 SQL 이 나가지 않는다.
+     *   (전체 clear 후 재추가하면 같은 멤버가 INSERT 먼저 실행되어 uk_expense_share_once 와도 충돌할 수 있음)
+     */
+    static void mergeShares(Expense expense, List<ExpenseRequestDto.ShareDto> incoming) {
+        Map<Long, Long> desired = new LinkedHashMap<>();
+        if (incoming != null) {
+            incoming.forEach(s -> desired.put(s.getMemberId(), s.getShareAmount()));
+        }
+
+        // 1) 삭제 + 변경
+        Iterator<ExpenseShare> it = expense.getShares().iterator();
+        while (it.hasNext()) {
+            ExpenseShare current = it.next();
+            if (!desired.containsKey(current.getMemberId())) {
+                it.remove();
+                continue;
+            }
+            Long amount = desired.remove(current.getMemberId());
+            if (!Objects.equals(current.getShareAmount(), amount)) {
+                current.setShareAmount(amount);
+            }
+        }
+
+        // 2) 추가 (남은 것 = 신규 멤버)
+        desired.forEach((memberId, amount) ->
+                expense.addShare(
+                        ExpenseShare.builder()
+                                .memberId(memberId)
+                                .shareAmount(amount)
+                                .build()
+                )
+        );
+    }
+
+    /** 일괄 등록 항목 검증. 통과하면 null, 실패하면 사유 */
+    private static String validateForBatch(ExpenseRequestDto item) {
+        if (item == null) return "항목이 비어 있습니다.";
+        if (item.getTitle() == null || item.getTitle().isBlank()) return "지출 제목이 필요합니다.";
+        if (item.getTitle().length() > 128) return "지출 제목은 128자 이하여야 합니다.";
+        if (item.getAmount() == null || item.getAmount() <= 0) return "총 지출 금액은 0보다 커야 합니다.";
+        if (item.getShares() == null || item.getShares().isEmpty()) return "분담 내역이 필요합니다.";
+
+        Set<Long> members = new HashSet<>();
+        long total = 0;
+        for (ExpenseRequestDto.ShareDto s : item.getShares()) {
+            if (s == null || s.getMemberId() == null) return "분담 대상 memberId 가 필요합니다.";
+            if (s.getShareAmount() == null || s.getShareAmount() < 0) return "분담금은 0 이상이어야 합니다.";
+            if (!members.add(s.getMemberId())) return "같은 멤버가 중복 포함되어 있습니다: " + s.getMemberId();
+            total += s.getShareAmount();
+        }
+        if (total != item.getAmount()) return "분담금 합계가 총 지출 금액과 일치하지 않습니다.";
+        return null;
+    }
+
     private ExpenseResponseDto toResponse(Expense e) {
         return ExpenseResponseDto.builder()
                 .id(e.getId())
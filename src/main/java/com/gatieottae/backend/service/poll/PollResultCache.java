@@ -0,0 +1,68 @@
+package com.gatieottae.backend.service.poll;
+
+import com.gatieottae.backend.domain.poll.PollResult;
+import com.gatieottae.backend.repository.poll.PollResultRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 마감된 투표 결과 스냅샷 캐시 (pollId → Snapshot)
+ *
+ * - 스냅샷은 불변이라 무효화가 없다 → 인스턴스 로컬 Caffeine 에 오래 둔다 (접근 기준 만료)
+ * - 미스는 poll_result PK 조회 한 번 (목록은 findAllById 한 번)
+ * - 스냅샷이 없는 poll(마감 전/옛 데이터)은 캐시하지 않고 empty → 호출 측이 기존 집계 경로 사용
+ * - 지표: cache.*{cache=poll.result}
+ */
+@Component
+public class PollResultCache {
+
+    private static final long MAX_ENTRIES = 20_000;
+    private static final Duration EXPIRE_AFTER_ACCESS = Duration.ofDays(1);
+
+    /** 캐시 값 (엔티티 대신 불변 값) */
+    public record Snapshot(Map<Long, Long> counts, int totalVoters, Long winnerOptionId) {
+        static Snapshot of(PollResult r) {
+            return new Snapshot(Map.copyOf(r.getCounts()), r.getTotalVoters(), r.getWinnerOptionId());
+        }
+    }
+
+    private final PollResultRepository resultRepo;
+    private final Cache<Long, Snapshot> cache;
+
+    public PollResultCache(PollResultRepository resultRepo, MeterRegistry meterRegistry) {
+        this.resultRepo = resultRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_ENTRIES)
+                .expireAfterAccess(EXPIRE_AFTER_ACCESS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "poll.result");
+    }
+
+    public Optional<Snapshot> get(Long pollId) {
+        Snapshot cached = cache.getIfPresent(pollId);
+        if (cached != null) return Optional.of(cached);
+        return resultRepo.findById(pollId).map(r -> {
+            Snapshot s = Snapshot.of(r);
+            cache.put(pollId, s);
+            return s;
+        });
+    }
+
+    /** 여러 건 조회 (스냅샷이 있는 것만 반환) */
+    public Map<Long, Snapshot> getAll(Collection<Long> pollIds) {
+        if (pollIds.isEmpty()) return Map.of();
+        return cache.getAll(pollIds, missing -> resultRepo.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(PollResult::getPollId, Snapshot::of, (a, b) -> a)));
+    }
+}
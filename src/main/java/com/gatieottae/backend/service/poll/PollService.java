@@ -5,6 +5,7 @@ import com.gatieottae.backend.common.exception.ConflictException;
 import com.gatieottae.backend.common.exception.NotFoundException;
 import com.gatieottae.backend.domain.poll.*;
 import com.gatieottae.backend.infra.redis.VoteBroadcastCoordinator;
+import com.gatieottae.backend.infra.redis.PollDeadlineQueue;
 import com.gatieottae.backend.infra.redis.VoteCacheService;
 import com.gatieottae.backend.repository.poll.*;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,10 @@ public class PollService {
     private final PollVoteRepository voteRepo;
     private final VoteCacheService voteCache;
     private final VoteBroadcastCoordinator voteBroadcaster;
+    private final PollDeadlineQueue deadlineQueue;
+    private final PollResultRepository resultRepo;
+    private final PollResultCache resultCache;
+    private final VoteCountLoader countLoader;
 
     @Transactional
     public PollDto.CreateRes create(Long memberId, PollDto.CreateReq req) {
@@ -74,14 +79,21 @@ public class PollService {
 
         pollRepo.save(poll); // cascade로 option 저장
 
+        if (poll.getClosesAt() != null) {
+            final long pId = poll.getId();
+            final OffsetDateTime closesAt = poll.getClosesAt();
+            runAfterCommit(() -> deadlineQueue.schedule(pId, closesAt));
+        }
+
         return new PollDto.CreateRes(poll.getId());
     }
 
     @Transactional
     public void vote(Long pollId, Long memberId, Long optionId) {
-        Poll poll = pollRepo.findById(pollId)
+        // FOR SHARE: 진행 중인 마감(UPDATE)과 직렬화 → 마감 스냅샷에 빠지는 늦은 표가 없다
+        Poll poll = pollRepo.findByIdForShare(pollId)
                 .orElseThrow(() -> new NotFoundException("poll not found"));
-        if (poll.getStatus() != PollStatus.OPEN) {
+        if (!isAcceptingVotes(poll)) {
             throw new ConflictException("poll closed");
         }
 
@@ -115,53 +127,44 @@ public class PollService {
 
     @Transactional(readOnly = true)
     public PollDto.ResultsRes results(Long pollId, Long memberId) {
+        Poll poll = pollRepo.findById(pollId)
+                .orElseThrow(() -> new NotFoundException("poll not found"));
+
+        // 0) 마감된 투표: 불변 스냅샷 (poll_vote 재집계 없음)
+        if (poll.getStatus() == PollStatus.CLOSED) {
+            var snapshot = resultCache.get(pollId);
+            if (snapshot.isPresent()) {
+                Long myOptionId = voteRepo.findByPoll_IdAndMemberId(pollId, memberId)
+                        .map(v -> v.getOption().getId())
+                        .orElse(null);
+                var options = optionRepo.findByPollIdOrderBySortOrderAscIdAsc(pollId);
+                return toResults(poll, options, snapshot.get().counts(), myOptionId, snapshot.get().winnerOptionId());
+            }
+        }
+
         // 1) ✅ 캐시 먼저 시도
         var cached = voteCache.tryGetResults(pollId, memberId);
         if (cached.isPresent()) {
             var c = cached.get();
-
             // 옵션 목록은 DB에서 정렬/문구를 가져오되, 득표수는 캐시의 count 사용
-            Poll poll = pollRepo.findById(pollId)
-                    .orElseThrow(() -> new NotFoundException("poll not found"));
-
             var options = optionRepo.findByPollIdOrderBySortOrderAscIdAsc(pollId);
-            List<PollDto.ResultsRes.OptionResult> list = new ArrayList<>();
-            for (PollOption opt : options) {
-                long cnt = c.counts().getOrDefault(opt.getId(), 0L);
-                boolean isMine = c.myOptionId() != null && c.myOptionId().equals(opt.getId());
-                list.add(new PollDto.ResultsRes.OptionResult(opt.getId(), opt.getContent(), cnt, isMine));
-            }
-
-            return new PollDto.ResultsRes(
-                    poll.getId(),
-                    poll.getTitle(),
-                    poll.getCategory().getCode(),
-                    poll.getStatus().name(),
-                    poll.getClosesAt(),
-                    list,
-                    c.myOptionId() != null
-            );
+            return toResults(poll, options, c.counts(), c.myOptionId(), null);
         }
 
-        // 2) ❄️ 캐시에 없으면 DB로 계산 (기존 로직)
-        Poll poll = pollRepo.findById(pollId)
-                .orElseThrow(() -> new NotFoundException("poll not found"));
-
+        // 2) ❄️ 캐시에 없으면 DB로 계산 + 캐시 워밍업 (같은 poll 의 동시 미스는 한 번만 집계)
         var options = optionRepo.findByPollIdOrderBySortOrderAscIdAsc(pollId);
         var myVote = voteRepo.findByPoll_IdAndMemberId(pollId, memberId).orElse(null);
-
-        // optionId -> count 맵 구성
-        var counts = new java.util.HashMap<Long, Long>();
-        for (PollOption opt : options) {
-            long cnt = voteRepo.countByPollIdAndOptionId(pollId, opt.getId());
-            counts.put(opt.getId(), cnt);
-        }
         Long myOptionId = (myVote == null) ? null : myVote.getOption().getId();
 
-        // 3) ✅ 캐시 워밍업
-        voteCache.warmUp(pollId, counts, memberId, myOptionId, poll.getClosesAt());
+        var optionIds = options.stream().map(PollOption::getId).toList();
+        var counts = countLoader.load(pollId, optionIds, poll.getClosesAt(), memberId, myOptionId);
+
+        // 3) 응답 DTO 생성
+        return toResults(poll, options, counts, myOptionId, null);
+    }
 
-        // 4) 응답 DTO 생성
+    private static PollDto.ResultsRes toResults(Poll poll, List<PollOption> options, java.util.Map<Long, Long> counts,
+                                                Long myOptionId, Long winnerOptionId) {
         List<PollDto.ResultsRes.OptionResult> list = new ArrayList<>();
         for (PollOption opt : options) {
             long cnt = counts.getOrDefault(opt.getId(), 0L);
@@ -176,7 +179,8 @@ public class PollService {
                 poll.getStatus().name(),
                 poll.getClosesAt(),
                 list,
-                myOptionId != null
+                myOptionId != null,
+                winnerOptionId
         );
     }
 
@@ -191,6 +195,14 @@ public class PollService {
             myVotes.put(v.getPoll().getId(), v.getOption().getId());
         }
 
+        // 마감된 투표는 스냅샷으로 (캐시 미스분만 한 번에 조회)
+        var closedIds = polls.stream().filter(p -> p.getStatus() == PollStatus.CLOSED).map(Poll::getId).toList();
+        var snapshots = resultCache.getAll(closedIds);
+
+        // 진행 중인 투표는 Redis 캐시 (counts + 내 선택을 파이프라인 한 번에)
+        var openIds = polls.stream().filter(p -> p.getStatus() == PollStatus.OPEN).map(Poll::getId).toList();
+        var cachedResults = voteCache.tryGetResults(openIds, memberId);
+
         var result = new ArrayList<PollDto.ListItem>(polls.size());
 
         for (var p : polls) {
@@ -198,14 +210,7 @@ public class PollService {
             final boolean isOpen = p.getStatus() == PollStatus.OPEN;
 
             // 캐시 먼저
-            java.util.Map<Long, Long> countsMap = null; // ← import 없으면 이렇게 fully-qualified
-            Long myChoiceFromCache = null;
-            if (isOpen) {
-                countsMap = voteCache.getCounts(pollId);
-                if (!countsMap.isEmpty()) {
-                    myChoiceFromCache = voteCache.getMemberChoice(pollId, memberId);
-                }
-            }
+            var cached = cachedResults.get(pollId);
 
             var options = p.getOptions().stream()
                     .sorted(java.util.Comparator.comparingInt(o -> o.getSortOrder() == null ? 0 : o.getSortOrder()))
@@ -213,21 +218,28 @@ public class PollService {
 
             java.util.Map<Long, Long> finalCounts;
             Long mySelectedOptionId;
+            var snapshot = snapshots.get(pollId);
+            Long winnerOptionId = snapshot == null ? null : snapshot.winnerOptionId();
 
-            if (countsMap != null && !countsMap.isEmpty()) {
-                finalCounts = countsMap;
-                mySelectedOptionId = (myChoiceFromCache != null) ? myChoiceFromCache : myVotes.get(pollId);
+            if (snapshot != null) {
+                finalCounts = snapshot.counts();
+                mySelectedOptionId = myVotes.get(pollId);
+            } else if (cached != null) {
+                finalCounts = cached.counts();
+                mySelectedOptionId = (cached.myOptionId() != null) ? cached.myOptionId() : myVotes.get(pollId);
+            } else if (isOpen) {
+                // 캐시 미스: 같은 poll 의 동시 미스는 한 번만 집계 + 워밍업
+                mySelectedOptionId = myVotes.get(pollId);
+                var optionIds = options.stream().map(PollOption::getId).toList();
+                finalCounts = countLoader.load(pollId, optionIds, p.getClosesAt(), memberId, mySelectedOptionId);
             } else {
+                // 스냅샷 없는 마감 투표: 캐시하지 않고 DB 집계
                 finalCounts = new java.util.HashMap<>();
                 for (var opt : options) {
                     long cnt = voteRepo.countByPollIdAndOptionId(pollId, opt.getId());
                     finalCounts.put(opt.getId(), cnt);
                 }
                 mySelectedOptionId = myVotes.get(pollId);
-
-                if (isOpen) {
-                    voteCache.warmUp(pollId, finalCounts, memberId, mySelectedOptionId, p.getClosesAt());
-                }
             }
 
             int totalVoters = options.stream()
@@ -251,6 +263,7 @@ public class PollService {
                     .closesAt(p.getClosesAt())
                     .totalVoters(totalVoters)
                     .myVoteOptionId(mySelectedOptionId)
+                    .winnerOptionId(winnerOptionId)
                     .options(optionDtos)
                     .build());
         }
@@ -264,23 +277,63 @@ public class PollService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "poll not found"));
         if (poll.getStatus() == PollStatus.CLOSED) return;
 
+        OffsetDateTime now = OffsetDateTime.now();
         poll.setStatus(PollStatus.CLOSED);
-        poll.setUpdatedAt(OffsetDateTime.now());
+        poll.setUpdatedAt(now);
+        // UPDATE 를 먼저 내보내 행 잠금 → 진행 중인 투표가 끝난 뒤의 득표로 스냅샷
+        pollRepo.flush();
+        resultRepo.snapshot(List.of(pollId), now);
 
         final long pId = pollId;
-        // ✅ counts 해시만 즉시 삭제. (member choice는 TTL로 자연 만료)
         runAfterCommit(() -> {
-            voteCache.evictOnClose(pId);
-            // 닫힌 상태 브로드캐스트
+            deadlineQueue.cancel(pId);
+            // 닫힌 상태 브로드캐스트 (counts 를 읽으므로 삭제보다 먼저)
             voteBroadcaster.broadcastCountsSnapshot(poll);
+            // ✅ counts/choices 해시 함께 삭제
+            voteCache.evictOnClose(pId);
         });
     }
 
+    /**
+     * 스케줄러용 일괄 마감: 마감 시각이 지난 OPEN 투표를 최대 limit 건 UPDATE ... RETURNING 한 번으로 닫는다.
+     * - 같은 트랜잭션에서 결과 스냅샷(poll_result)을 남긴다
+     * - 커밋 후 캐시 삭제와 브로드캐스트는 청크 단위 파이프라인 (poll 마다 왕복하지 않음)
+     * @return 이번에 닫힌 poll id
+     */
+    @Transactional
+    public List<Long> closeDue(OffsetDateTime now, int limit) {
+        return snapshotAndPublish(pollRepo.closeDue(now, limit), now);
+    }
+
+    /**
+     * 마감 타이머용: 큐에서 꺼낸 id 중 실제로 기한이 지난 OPEN 투표만 닫는다 (UPDATE ... RETURNING 한 번)
+     * @return 이번에 닫힌 poll id
+     */
+    @Transactional
+    public List<Long> closeOnDeadline(List<Long> pollIds, OffsetDateTime now) {
+        if (pollIds.isEmpty()) return List.of();
+        return snapshotAndPublish(pollRepo.closeDueByIds(pollIds, now), now);
+    }
+
+    /** 같은 트랜잭션에서 결과 스냅샷 INSERT, 커밋 후 캐시 삭제/브로드캐스트 */
+    private List<Long> snapshotAndPublish(List<Long> closed, OffsetDateTime now) {
+        if (closed.isEmpty()) return closed;
+        resultRepo.snapshot(closed, now);
+        runAfterCommit(() -> voteBroadcaster.evictAndBroadcastClosed(closed));
+        return closed;
+    }
+
+    /** OPEN 이고 마감 시각 전 (타이머가 닫기 직전의 짧은 틈에도 마감 후 투표를 막는다) */
+    private static boolean isAcceptingVotes(Poll poll) {
+        if (poll.getStatus() != PollStatus.OPEN) return false;
+        return poll.getClosesAt() == null || poll.getClosesAt().isAfter(OffsetDateTime.now());
+    }
+
     @Transactional
     public void unvote(Long pollId, Long memberId) {
-        Poll poll = pollRepo.findById(pollId)
+        Poll poll = pollRepo.findByIdForShare(pollId)
                 .orElseThrow(() -> new NotFoundException("poll not found"));
-        if (poll.getStatus() != PollStatus.OPEN) throw new ConflictException("poll closed");
+        if (!isAcceptingVotes(poll)) throw new ConflictException("poll closed");
 
         Long myOptionId = voteRepo.findByPoll_IdAndMemberId(pollId, memberId)
                 .map(v -> v.getOption().getId())
@@ -380,6 +433,12 @@ public class PollService {
         }
 
         poll.setUpdatedAt(OffsetDateTime.now());
+
+        if (req.closesAt() != null) {
+            final long pId = pollId;
+            final OffsetDateTime closesAt = poll.getClosesAt();
+            runAfterCommit(() -> deadlineQueue.schedule(pId, closesAt));
+        }
     }
 
     @Transactional
@@ -400,6 +459,9 @@ public class PollService {
         voteRepo.deleteByPollId(pollId); // 안전하게 정리
         optionRepo.deleteByPollId(pollId);
         pollRepo.delete(poll);
+
+        final long pId = pollId;
+        runAfterCommit(() -> deadlineQueue.cancel(pId));
     }
 
     private void runAfterCommit(Runnable task) {
@@ -0,0 +1,134 @@
+package com.gatieottae.backend.service.poll;
+
+import com.gatieottae.backend.infra.redis.VoteCacheService;
+import com.gatieottae.backend.repository.poll.PollVoteRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 득표수 캐시 미스 시 DB 재집계 (poll 단위 single-flight)
+ *
+ * - 같은 poll 의 동시 미스는 먼저 온 요청(leader) 하나만 집계 + warmUp, 나머지는 그 결과를 기다려 공유
+ * - 기다림은 WAIT_TIMEOUT 까지. 넘기거나 leader 가 실패하면 직접 집계 (예전 동작으로 후퇴)
+ * - 인스턴스 로컬 맵이라 클러스터 전체로는 인스턴스 수만큼까지만 동시 집계
+ * - 지표
+ *   poll.counts.load{result=leader|coalesced|fallback}
+ *   poll.counts.load.duration : leader 집계 + 적재 시간 (히스토그램)
+ */
+@Slf4j
+@Component
+public class VoteCountLoader {
+
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(2);
+
+    private final PollVoteRepository voteRepo;
+    private final VoteCacheService voteCache;
+    private final ConcurrentHashMap<Long, CompletableFuture<Map<Long, Long>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderLoads;
+    private final Counter coalescedLoads;
+    private final Counter fallbackLoads;
+    private final Timer loadTimer;
+
+    public VoteCountLoader(PollVoteRepository voteRepo, VoteCacheService voteCache, MeterRegistry meterRegistry) {
+        this.voteRepo = voteRepo;
+        this.voteCache = voteCache;
+        this.leaderLoads = loadCounter(meterRegistry, "leader");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.fallbackLoads = loadCounter(meterRegistry, "fallback");
+        this.loadTimer = Timer.builder("poll.counts.load.duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없는 poll 의 옵션별 득표수 (0표 옵션 포함)
+     * - leader 는 counts 와 자기 선택을 캐시에 적재, 나머지는 자기 선택만 적재
+     */
+    public Map<Long, Long> load(long pollId, Collection<Long> optionIds, OffsetDateTime closesAt,
+                                Long memberId, Long myOptionId) {
+        CompletableFuture<Map<Long, Long>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<Long, Long>> leader = inFlight.putIfAbsent(pollId, mine);
+
+        if (leader == null) {
+            leaderLoads.increment();
+            try {
+                Map<Long, Long> counts = loadTimer.record(() -> {
+                    Map<Long, Long> c = countFromDb(optionIds);
+                    warmUp(pollId, c, memberId, myOptionId, closesAt);
+                    return c;
+                });
+                mine.complete(counts);
+                return counts;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(pollId, mine);
+            }
+        }
+
+        try {
+            Map<Long, Long> counts = leader.get(WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            coalescedLoads.increment();
+            if (myOptionId != null) warmUp(pollId, null, memberId, myOptionId, closesAt);
+            return counts;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for vote counts", e);
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("[VoteCountLoader] leader load unavailable, loading directly. pollId={}", pollId, e);
+        }
+
+        fallbackLoads.increment();
+        Map<Long, Long> counts = countFromDb(optionIds);
+        warmUp(pollId, counts, memberId, myOptionId, closesAt);
+        return counts;
+    }
+
+    /** 진행 중인 leader 집계 (없으면 null) — 테스트에서 대기자 합류 확인용 */
+    CompletableFuture<Map<Long, Long>> inFlight(long pollId) {
+        return inFlight.get(pollId);
+    }
+
+    /** 캐시 적재 실패는 응답에 영향 없음 (다음 미스에서 다시 적재) */
+    private void warmUp(long pollId, Map<Long, Long> counts, Long memberId, Long myOptionId, OffsetDateTime closesAt) {
+        try {
+            voteCache.warmUp(pollId, counts, memberId, myOptionId, closesAt);
+        } catch (Exception e) {
+            log.warn("[VoteCountLoader] cache warm-up failed. pollId={}", pollId, e);
+        }
+    }
+
+    /** 옵션별 득표수를 GROUP BY 한 번으로 (0표 옵션은 0 으로 채움) */
+    private Map<Long, Long> countFromDb(Collection<Long> optionIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (optionIds.isEmpty()) return Map.of();
+        for (Long optionId : optionIds) counts.put(optionId, 0L);
+        for (Object[] row : voteRepo.countByOptionIds(List.copyOf(optionIds))) {
+            counts.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        return Map.copyOf(counts);
+    }
+
+    private static Counter loadCounter(MeterRegistry registry, String result) {
+        return Counter.builder("poll.counts.load")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,103 @@
+package com.gatieottae.backend.service.schedule;
+
+import com.gatieottae.backend.repository.schedule.view.ScheduleIcsView;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * RFC 5545 iCalendar 직렬화 (스트리밍)
+ * - 줄 끝 CRLF, 75 옥텟 초과 줄은 접기(CRLF + 공백), UTF-8 멀티바이트 문자는 쪼개지 않음
+ * - TEXT 값 이스케이프: \\ ; , 개행
+ * - 시각은 UTC(…Z) 로 기록
+ */
+final class IcsWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_OCTETS = 75;
+    private static final DateTimeFormatter UTC_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+
+    private final Writer out;
+
+    IcsWriter(Writer out) {
+        this.out = out;
+    }
+
+    void beginCalendar(String name) throws IOException {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//gatieottae//schedules//KO");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(name));
+    }
+
+    void event(ScheduleIcsView s, OffsetDateTime stamp) throws IOException {
+        line("BEGIN:VEVENT");
+        line("UID:schedule-" + s.getId() + "@gatieottae");
+        line("DTSTAMP:" + utc(s.getUpdatedAt() != null ? s.getUpdatedAt() : stamp));
+        line("DTSTART:" + utc(s.getStartTime()));
+        if (s.getEndTime() != null) line("DTEND:" + utc(s.getEndTime()));
+        line("SUMMARY:" + escape(s.getTitle()));
+        if (s.getLocation() != null && !s.getLocation().isBlank()) line("LOCATION:" + escape(s.getLocation()));
+        if (s.getDescription() != null && !s.getDescription().isBlank()) line("DESCRIPTION:" + escape(s.getDescription()));
+        if (s.getUpdatedAt() != null) line("LAST-MODIFIED:" + utc(s.getUpdatedAt()));
+        line("END:VEVENT");
+    }
+
+    void endCalendar() throws IOException {
+        line("END:VCALENDAR");
+        out.flush();
+    }
+
+    // ------------------------------------------------------------------
+
+    static String utc(OffsetDateTime t) {
+        return t.withOffsetSameInstant(ZoneOffset.UTC).format(UTC_FORMAT);
+    }
+
+    static String escape(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> sb.append("\\\\");
+                case ';' -> sb.append("\\;");
+                case ',' -> sb.append("\\,");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> { /* CRLF 는 \n 하나로 */ }
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /** 75 옥텟 단위 접기 (이어지는 줄은 앞 공백 1 옥텟 포함) */
+    static String fold(String content) {
+        StringBuilder sb = new StringBuilder(content.length() + 16);
+        int octets = 0;
+        int limit = MAX_OCTETS;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int len = new String(Character.toChars(cp)).getBytes(StandardCharsets.UTF_8).length;
+            if (octets + len > limit) {
+                sb.append(CRLF).append(' ');
+                octets = 1;
+            }
+            sb.appendCodePoint(cp);
+            octets += len;
+            i += Character.charCount(cp);
+        }
+        return sb.toString();
+    }
+
+    private void line(String content) throws IOException {
+        out.write(fold(content));
+        out.write(CRLF);
+    }
+}
@@ -0,0 +1,63 @@
+package com.gatieottae.backend.service.schedule;
+
+import com.gatieottae.backend.repository.schedule.ScheduleRepository;
+import com.gatieottae.backend.repository.schedule.view.ScheduleFeedVersionView;
+import com.gatieottae.backend.repository.schedule.view.ScheduleIcsView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 그룹 일정 iCalendar 피드
+ * - version(): 가벼운 집계 쿼리 1회로 ETag/Last-Modified 계산 → 변경 없으면 304 로 끝
+ * - writeIcs(): JDBC 커서로 한 건씩 읽어 곧바로 응답에 기록 (목록을 메모리에 만들지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleFeedService {
+
+    private final ScheduleRepository scheduleRepo;
+
+    /** etag: 약한 ETag, lastModified: epoch ms (일정이 없으면 0) */
+    public record FeedVersion(String etag, long lastModified) {}
+
+    @Transactional(readOnly = true)
+    public FeedVersion version(Long groupId) {
+        ScheduleFeedVersionView v = scheduleRepo.findFeedVersion(groupId);
+        OffsetDateTime last = v == null ? null : v.getLastUpdatedAt();
+        long total = (v == null || v.getTotal() == null) ? 0L : v.getTotal();
+
+        long lastMillis = last == null ? 0L : last.toInstant().toEpochMilli();
+        long lastMicros = last == null ? 0L : last.toInstant().getEpochSecond() * 1_000_000L + last.getNano() / 1_000;
+        // 건수를 포함해 삭제도 버전에 반영
+        String etag = "W/\"sch-" + groupId + "-" + total + "-" + Long.toString(lastMicros, 36) + "\"";
+        return new FeedVersion(etag, lastMillis);
+    }
+
+    /** 트랜잭션 안에서 스트림을 소비해야 커서가 유지됨 */
+    @Transactional(readOnly = true)
+    public void writeIcs(Long groupId, Writer out) throws IOException {
+        IcsWriter ics = new IcsWriter(out);
+        OffsetDateTime now = OffsetDateTime.now();
+
+        ics.beginCalendar("gatieottae group " + groupId);
+        try (Stream<ScheduleIcsView> rows = scheduleRepo.streamForIcs(groupId)) {
+            rows.forEach(s -> {
+                try {
+                    ics.event(s, now);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        ics.endCalendar();
+    }
+}
@@ -1,29 +1,52 @@
 package com.gatieottae.backend.service.schedule;
 
 import com.gatieottae.backend.api.schedule.dto.ScheduleDto;
+import com.gatieottae.backend.common.util.IntervalTree;
 import com.gatieottae.backend.domain.schedule.Schedule;
-import com.gatieottae.backend.domain.schedule.ScheduleParticipant;
 import com.gatieottae.backend.domain.schedule.ScheduleParticipantStatus;
+import com.gatieottae.backend.infra.redis.ScheduleAttendanceCache;
 import com.gatieottae.backend.repository.schedule.ScheduleParticipantRepository;
 import com.gatieottae.backend.repository.schedule.ScheduleRepository;
+import com.gatieottae.backend.repository.schedule.view.AttendanceSummaryRow;
+import com.gatieottae.backend.repository.schedule.view.ParticipantWarmUpRow;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Instant;
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
 
+    /** 달력 아이템에 노출할 참석자 샘플 수 */
+    private static final int ATTENDEE_SAMPLE_SIZE = 2;
+    private static final String GOING = ScheduleParticipantStatus.GOING.name();
+    private static final ScheduleDto.Item.Attending EMPTY_ATTENDING =
+            new ScheduleDto.Item.Attending(0L, List.of(), false, false);
+
     private final ScheduleRepository scheduleRepo;
     private final ScheduleParticipantRepository spRepo;
+    private final ScheduleAttendanceCache attendanceCache;
 
     /**
      * 일정 생성
@@ -71,6 +94,7 @@ public class ScheduleService {
      * 기간 조회 (달력)
      * - 조건: end > :from AND start < :to
      * - 참석자 요약: count + sample(최대 2명, joined_at asc) + isMine
+     * - 일정 목록 1회 + 참석 요약 1회 (윈도우 함수), 일정 수와 무관
      */
     @Transactional(readOnly = true)
     public List<ScheduleDto.Item> list(Long groupId, OffsetDateTime from, OffsetDateTime to, Long me, boolean markOverlap) {
@@ -79,33 +103,51 @@ public class ScheduleService {
         }
 
         var schedules = scheduleRepo.findOverlapping(groupId, from, to);
-        var result = new ArrayList<ScheduleDto.Item>(schedules.size());
+        if (schedules.isEmpty()) return List.of();
 
-        for (Schedule s : schedules) {
-            long going = spRepo.countGoing(s.getId());
+        // 참석 요약(count + sample 2명 + isMine): Redis 우선, 미적재분만 DB 에서 적재
+        var summaries = attendanceSummaries(schedules.stream().map(Schedule::getId).toList(), me);
 
-            // sample 2명 (joined_at asc)
-            var samples = spRepo.findAttendeeSamples(s.getId(), PageRequest.of(0, 2));
-            var sampleDtos = samples.stream()
-                    .map(v -> new ScheduleDto.Item.Member(v.getMemberId(), v.getDisplayName()))
-                    .toList();
+        // 겹침 표시: 범위 내 다른 일정과 실제로 겹치는 것만 true (클러스터 구성원 = 겹침 있음)
+        Set<Long> overlapped = markOverlap ? overlappedIds(schedules) : Set.of();
 
-            boolean isMine = spRepo.existsByScheduleIdAndMemberIdAndStatus(s.getId(), me, ScheduleParticipantStatus.GOING);
-            boolean hasMore = going > sampleDtos.size();
+        var result = new ArrayList<ScheduleDto.Item>(schedules.size());
 
-            var attending = new ScheduleDto.Item.Attending(going, sampleDtos, hasMore, isMine);
+        for (Schedule s : schedules) {
+            var attending = summaries.getOrDefault(s.getId(), EMPTY_ATTENDING);
 
             result.add(new ScheduleDto.Item(
                     s.getId(), s.getTitle(), s.getLocation(),
                     s.getStartTime(), s.getEndTime(),
                     attending,
-                    markOverlap // 프론트에서 겹침 스타일링 여부에 활용(옵션)
+                    overlapped.contains(s.getId()) // 프론트에서 겹침 스타일링 여부에 활용
             ));
         }
 
         return result;
     }
 
+    /**
+     * 기간 내 겹침 클러스터 (달력 UI 의 겹침 묶음 표시용)
+     * - 기간 일정 1회 조회 후 메모리 구간 트리로 계산: O(n log n)
+     * - 구성원 2개 이상인 묶음만 반환, 시작 시각 순
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleDto.OverlapCluster> overlapClusters(Long groupId, OffsetDateTime from, OffsetDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "invalid range: from must be before to");
+        }
+        var schedules = scheduleRepo.findOverlapping(groupId, from, to);
+
+        return intervalTree(schedules).clusters().stream()
+                .map(c -> new ScheduleDto.OverlapCluster(
+                        c.members().get(0).getStartTime(),
+                        c.members().stream().map(Schedule::getEndTime).filter(Objects::nonNull)
+                                .max(Comparator.naturalOrder()).orElse(null),
+                        c.members().stream().map(Schedule::getId).toList()))
+                .toList();
+    }
+
     /**
      * 참여 상태 설정 (멱등 Upsert)
      * - 허용: GOING / NOT_GOING / TENTATIVE
@@ -177,25 +219,131 @@ public class ScheduleService {
         spRepo.deleteByScheduleId(scheduleId);
 
         scheduleRepo.delete(s);
+
+        runAfterCommit(() -> attendanceCache.evict(scheduleId));
     }
 
     // ==========================
     // 내부 유틸
     // ==========================
 
+    private static IntervalTree<Schedule> intervalTree(List<Schedule> schedules) {
+        return IntervalTree.of(schedules,
+                s -> epochMicros(s.getStartTime()),
+                s -> s.getEndTime() == null ? null : epochMicros(s.getEndTime()));
+    }
+
+    private static Set<Long> overlappedIds(List<Schedule> schedules) {
+        Set<Long> ids = new HashSet<>();
+        intervalTree(schedules).clusters().forEach(c -> c.members().forEach(m -> ids.add(m.getId())));
+        return ids;
+    }
+
+    /** TIMESTAMPTZ 정밀도(마이크로초) 그대로 비교 */
+    private static long epochMicros(OffsetDateTime t) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, t.toInstant());
+    }
+
+    /** scheduleId → 참석 요약 (GOING 0명인 일정은 맵에 없음) — Redis 장애 시 대체 경로 */
+    private Map<Long, ScheduleDto.Item.Attending> loadAttendanceSummaries(List<Long> scheduleIds, Long me) {
+        var rows = spRepo.findAttendanceSummaries(scheduleIds, me, ATTENDEE_SAMPLE_SIZE);
+
+        // 행은 (schedule_id, rn) 순으로 정렬되어 있음
+        Map<Long, List<AttendanceSummaryRow>> bySchedule = new LinkedHashMap<>();
+        for (AttendanceSummaryRow r : rows) {
+            bySchedule.computeIfAbsent(r.getScheduleId(), k -> new ArrayList<>(ATTENDEE_SAMPLE_SIZE)).add(r);
+        }
+
+        Map<Long, ScheduleDto.Item.Attending> result = new HashMap<>(bySchedule.size() * 2);
+        bySchedule.forEach((scheduleId, list) -> {
+            AttendanceSummaryRow head = list.get(0);
+            long going = head.getGoingCount() == null ? 0L : head.getGoingCount();
+            boolean isMine = Boolean.TRUE.equals(head.getMine());
+            var sampleDtos = list.stream()
+                    .map(v -> new ScheduleDto.Item.Member(v.getMemberId(), v.getDisplayName()))
+                    .toList();
+            result.put(scheduleId, new ScheduleDto.Item.Attending(going, sampleDtos, going > sampleDtos.size(), isMine));
+        });
+        return result;
+    }
+
     private void upsertAttendance(Long scheduleId, Long memberId, ScheduleParticipantStatus status) {
-        // exists → update, not exists → insert (간단·안전)
-        var opt = spRepo.findByScheduleIdAndMemberId(scheduleId, memberId);
-
-        ScheduleParticipant sp = opt.orElseGet(() ->
-                ScheduleParticipant.builder()
-                        .scheduleId(scheduleId)
-                        .memberId(memberId)
-                        .status(status)
-                        .build()
-        );
-        sp.setStatus(status);
-        spRepo.save(sp);
+        // INSERT ... ON CONFLICT 한 문장 (조회 후 저장 경합 없음). 상태가 그대로면 결과 없음
+        spRepo.upsertStatus(scheduleId, memberId, status.name()).ifPresent(r ->
+                runAfterCommit(() -> attendanceCache.apply(
+                        scheduleId, memberId, status.name(), r.getJoinedAtMs(), r.getDisplayName())));
+    }
+
+    /**
+     * 참석 요약 조회
+     * - Redis 에 적재된 일정은 파이프라인 조회
+     * - 미적재 일정은 전체 참가자를 1회 조회해 요약을 계산하고 Redis 에 적재
+     * - Redis 장애 시 DB 윈도우 함수 쿼리로 대체
+     */
+    private Map<Long, ScheduleDto.Item.Attending> attendanceSummaries(List<Long> scheduleIds, Long me) {
+        Map<Long, ScheduleAttendanceCache.Summary> cached;
+        try {
+            cached = attendanceCache.getSummaries(scheduleIds, me, ATTENDEE_SAMPLE_SIZE);
+        } catch (DataAccessException e) {
+            log.warn("[Schedule] attendance cache unavailable, falling back to DB", e);
+            return loadAttendanceSummaries(scheduleIds, me);
+        }
+
+        Map<Long, ScheduleDto.Item.Attending> result = new HashMap<>(scheduleIds.size() * 2);
+        cached.forEach((id, sum) -> result.put(id, toAttending(sum)));
+
+        List<Long> missing = scheduleIds.stream().filter(id -> !cached.containsKey(id)).toList();
+        if (missing.isEmpty()) return result;
+
+        Map<Long, List<ScheduleAttendanceCache.Participant>> bySchedule = new LinkedHashMap<>();
+        missing.forEach(id -> bySchedule.put(id, new ArrayList<>()));
+        for (ParticipantWarmUpRow r : spRepo.findParticipantsForWarmUp(missing)) {
+            bySchedule.get(r.getScheduleId()).add(new ScheduleAttendanceCache.Participant(
+                    r.getMemberId(), r.getStatus(), r.getJoinedAtMs(), r.getDisplayName()));
+        }
+
+        bySchedule.forEach((id, participants) -> {
+            result.put(id, toAttending(participants, me));
+            try {
+                attendanceCache.warmUp(id, participants);
+            } catch (DataAccessException e) {
+                log.warn("[Schedule] attendance warm-up failed. scheduleId={}", id, e);
+            }
+        });
+        return result;
+    }
+
+    private static ScheduleDto.Item.Attending toAttending(ScheduleAttendanceCache.Summary sum) {
+        long going = sum.count(GOING);
+        var sample = sum.sample().stream()
+                .map(v -> new ScheduleDto.Item.Member(v.memberId(), v.displayName()))
+                .toList();
+        return new ScheduleDto.Item.Attending(going, sample, going > sample.size(), GOING.equals(sum.myStatus()));
+    }
+
+    /** participants 는 joined_at 순 */
+    private static ScheduleDto.Item.Attending toAttending(List<ScheduleAttendanceCache.Participant> participants, Long me) {
+        var goingList = participants.stream().filter(p -> GOING.equals(p.status())).toList();
+        var sample = goingList.stream().limit(ATTENDEE_SAMPLE_SIZE)
+                .map(p -> new ScheduleDto.Item.Member(p.memberId(), p.displayName()))
+                .toList();
+        boolean isMine = me != null && goingList.stream().anyMatch(p -> p.memberId() == me);
+        return new ScheduleDto.Item.Attending(goingList.size(), sample, goingList.size() > sample.size(), isMine);
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCommit() {
+                    try { task.run(); }
+                    catch (Exception e) {
+                        log.warn("afterCommit task failed", e);
+                    }
+                }
+            });
+        } else {
+            try { task.run(); } catch (Exception e) { log.warn("task failed (no TX sync)", e); }
+        }
     }
 
     private ScheduleParticipantStatus parseStatus(String statusText) {
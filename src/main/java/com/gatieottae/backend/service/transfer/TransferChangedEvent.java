@@ -0,0 +1,62 @@
+package com.gatieottae.backend.service.transfer;
+
+import com.gatieottae.backend.api.transfer.dto.TransferWsDto;
+import com.gatieottae.backend.domain.expense.Transfer;
+import com.gatieottae.backend.domain.expense.TransferStatus;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 송금 도메인 이벤트 (상태 변경/증빙/보채기)
+ *
+ * - TransferService 가 트랜잭션 안에서 발행하고, 커밋 이후 TransferEventListener 가 처리한다.
+ * - 엔티티 대신 값 스냅샷을 담아 트랜잭션 종료 후에도 안전하게 읽을 수 있다.
+ * - targetMemberId/message 는 보채기(NUDGE)에서만 사용
+ */
+public record TransferChangedEvent(
+        TransferWsDto.Type type,
+        Long transferId,
+        Long groupId,
+        Long fromMemberId,
+        Long toMemberId,
+        Long amount,
+        TransferStatus status,
+        String memo,
+        String proofUrl,
+        Long actorMemberId,
+        Long targetMemberId,
+        String message,
+        OffsetDateTime occurredAt
+) {
+
+    public static TransferChangedEvent of(TransferWsDto.Type type, Transfer t, Long actorMemberId) {
+        return new TransferChangedEvent(
+                type, t.getId(), t.getGroupId(), t.getFromMemberId(), t.getToMemberId(), t.getAmount(),
+                t.getStatus(), t.getMemo(), t.getProofUrl(), actorMemberId,
+                null, null, OffsetDateTime.now()
+        );
+    }
+
+    public static TransferChangedEvent nudge(Transfer t, Long actorMemberId, Long targetMemberId, String message) {
+        return new TransferChangedEvent(
+                TransferWsDto.Type.NUDGE, t.getId(), t.getGroupId(), t.getFromMemberId(), t.getToMemberId(),
+                t.getAmount(), t.getStatus(), t.getMemo(), t.getProofUrl(), actorMemberId,
+                targetMemberId, message, OffsetDateTime.now()
+        );
+    }
+
+    /** 그룹 브로드캐스트용 WS 페이로드 */
+    public TransferWsDto toWsDto() {
+        return TransferWsDto.builder()
+                .type(type)
+                .groupId(groupId)
+                .fromMemberId(fromMemberId)
+                .toMemberId(toMemberId)
+                .amount(amount)
+                .status(status)
+                .memo(memo)
+                .actorMemberId(actorMemberId)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
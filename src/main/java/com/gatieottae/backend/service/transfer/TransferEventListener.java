@@ -0,0 +1,59 @@
+package com.gatieottae.backend.service.transfer;
+
+import com.gatieottae.backend.api.transfer.dto.TransferWsDto;
+import com.gatieottae.backend.config.AsyncConfig;
+import com.gatieottae.backend.infra.redis.TransferEventPublisher;
+import com.gatieottae.backend.service.notification.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 송금 도메인 이벤트 → 알림/브로드캐스트
+ *
+ * - 커밋 이후(AFTER_COMMIT)에만 실행: 롤백된 변경은 알리지 않는다.
+ * - 전용 비동기 풀에서 실행: 요청 지연에서 Redis 왕복을 제외한다.
+ * - 알림은 비핵심이므로 실패는 로깅만 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferEventListener {
+
+    private final NotificationService notificationService;
+    private final TransferEventPublisher transferEventPublisher;
+
+    @Async(AsyncConfig.TRANSFER_EVENT_EXECUTOR)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void on(TransferChangedEvent e) {
+        try {
+            notifyMembers(e);
+        } catch (Exception ex) {
+            log.warn("[Transfers] failed to notify. type={}, transferId={}", e.type(), e.transferId(), ex);
+        }
+        // 그룹 보드(/topic/groups/{gid}/transfers) 갱신. 보채기는 개인 알림만 보낸다.
+        if (e.type() != TransferWsDto.Type.NUDGE) {
+            transferEventPublisher.publish(e.toWsDto());
+        }
+    }
+
+    private void notifyMembers(TransferChangedEvent e) {
+        switch (e.type()) {
+            case SENT -> notificationService.notifySent(
+                    e.toMemberId(), e.transferId(), e.amount(), e.groupId(), e.fromMemberId());
+            case CONFIRMED -> notificationService.notifyConfirmed(
+                    e.fromMemberId(), e.transferId(), e.amount());
+            case ROLLED_BACK -> notificationService.notifyRolledBack(
+                    List.of(e.fromMemberId(), e.toMemberId()), e.transferId(), e.amount());
+            case PROOF_ATTACHED -> notificationService.notifyProofAttached(
+                    e.toMemberId(), e.transferId(), e.proofUrl());
+            case NUDGE -> notificationService.sendNudge(e.targetMemberId(), e.message());
+            case REQUESTED -> { /* 생성은 그룹 브로드캐스트만 */ }
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package com.gatieottae.backend.service.transfer;
 
+import com.gatieottae.backend.api.me.CursorUtils;
+import com.gatieottae.backend.api.me.dto.CursorPageResponse;
 import com.gatieottae.backend.api.transfer.dto.*;
+import com.gatieottae.backend.common.exception.BadRequestException;
+import com.gatieottae.backend.common.exception.ConflictException;
 import com.gatieottae.backend.domain.expense.Transfer;
 import com.gatieottae.backend.domain.expense.TransferStatus;
+import com.gatieottae.backend.infra.redis.TransferIdempotencyStore;
 import com.gatieottae.backend.repository.expense.TransferRepository;
-import com.gatieottae.backend.service.notification.NotificationService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * TransferService
@@ -22,8 +33,11 @@ import java.util.Objects;
  * 설계 포인트
  * - commitDrafts(): 멱등 처리. 진행중(REQUESTED/SENT) 중복 시 409 대신 기존 건을 반환.
  * - markSent/confirm/rollback: 상태 전이를 멱등하게 처리(이미 목표 상태면 그대로 반환).
+ * - 동시성: 상태 전이는 조건부 UPDATE(WHERE status IN ...)로 처리해 행 잠금 없이 경합을 해소,
+ *   그 외 수정(증빙 첨부 등)은 @Version 낙관적 락으로 보호.
+ * - Idempotency-Key: 같은 키의 재요청은 저장된 응답을 반환.
  * - 검증: 금액>0, 자기 자신 송금 금지, 접근 권한 점검.
- * - 알림 훅(NotificationService): 보냈어요/확인/보채기 시점 호출 포인트 유지.
+ * - 알림: TransferChangedEvent 발행 → 커밋 이후 비동기로 개인 알림 + 그룹 브로드캐스트(TransferEventListener).
  *
  * 주의
  * - enum(TransferStatus)에 CANCELED/ROLLED_BACK이 없다면 본 파일은 참조하지 않습니다.
@@ -35,8 +49,18 @@ import java.util.Objects;
 @Transactional
 public class TransferService {
 
+    /** 조건부 UPDATE 경합 시 재시도 횟수 */
+    private static final int MAX_TRANSITION_ATTEMPTS = 3;
+
+    /** 원장 페이징 */
+    private static final String LEDGER_SORT = "createdDesc";
+    private static final int LEDGER_DEFAULT_SIZE = 20;
+    private static final int LEDGER_MAX_SIZE = 100;
+    private static final OffsetDateTime LEDGER_MAX_TIME = OffsetDateTime.parse("9999-12-31T23:59:59Z");
+
     private final TransferRepository transferRepository;
-    private final NotificationService notificationService; // Redis Pub/Sub or WebSocket publisher
+    private final ApplicationEventPublisher events; // 커밋 이후 TransferEventListener 가 알림/브로드캐스트
+    private final TransferIdempotencyStore idempotencyStore;
 
     /**
      * 송금 초안 확정(배치 생성, 멱등).
@@ -89,6 +113,7 @@ public class TransferService {
                     .build();
 
             Transfer saved = transferRepository.save(t);
+            events.publishEvent(TransferChangedEvent.of(TransferWsDto.Type.REQUESTED, saved, null));
             result.add(TransferResponseDto.fromEntity(saved));
         }
 
@@ -101,6 +126,12 @@ public class TransferService {
      * - REQUESTED → SENT
      * - 이미 SENT/CONFIRMED면 그대로 반환
      */
+    public TransferResponseDto markSent(Long groupId, Long id, Long actorMemberId,
+                                        TransferActionRequestDto body, String idempotencyKey) {
+        return withIdempotency(actorMemberId, "send", id, idempotencyKey,
+                () -> markSent(groupId, id, actorMemberId, body));
+    }
+
     public TransferResponseDto markSent(Long groupId, Long id, Long actorMemberId, TransferActionRequestDto body) {
         Transfer t = find(groupId, id);
 
@@ -108,21 +139,21 @@ public class TransferService {
             throw new SecurityException("보낸 사람만 '보냈어요' 처리할 수 있습니다.");
         }
 
-        if (t.getStatus() == TransferStatus.SENT || t.getStatus() == TransferStatus.CONFIRMED) {
-            return TransferResponseDto.fromEntity(t); // 멱등
-        }
-        if (t.getStatus() != TransferStatus.REQUESTED) {
-            throw new IllegalStateException("현재 상태에서는 '보냈어요'로 변경할 수 없습니다.");
-        }
-
-        t.setStatus(TransferStatus.SENT);
-        if (body != null && body.getMemo() != null) t.setMemo(body.getMemo());
-        t.setUpdatedAt(OffsetDateTime.now());
-
-        // 상대방에게 알림
-        notificationService.notifySent(t.getToMemberId(), t.getId(), t.getAmount(), groupId, t.getFromMemberId());
+        Transition tr = transition(groupId, t, TransferStatus.SENT, memoOf(body), cur -> {
+            if (cur.getStatus() == TransferStatus.SENT || cur.getStatus() == TransferStatus.CONFIRMED) {
+                return null; // 멱등
+            }
+            if (cur.getStatus() != TransferStatus.REQUESTED) {
+                throw new IllegalStateException("현재 상태에서는 '보냈어요'로 변경할 수 없습니다.");
+            }
+            return List.of(TransferStatus.REQUESTED);
+        });
 
-        return TransferResponseDto.fromEntity(t);
+        if (tr.changed()) {
+            // 상대방 알림 + 그룹 브로드캐스트 (커밋 이후)
+            events.publishEvent(TransferChangedEvent.of(TransferWsDto.Type.SENT, tr.transfer(), actorMemberId));
+        }
+        return TransferResponseDto.fromEntity(tr.transfer());
     }
 
     /**
@@ -131,6 +162,12 @@ public class TransferService {
      * - SENT → CONFIRMED
      * - 이미 CONFIRMED면 그대로 반환
      */
+    public TransferResponseDto confirm(Long groupId, Long id, Long actorMemberId,
+                                       TransferActionRequestDto body, String idempotencyKey) {
+        return withIdempotency(actorMemberId, "confirm", id, idempotencyKey,
+                () -> confirm(groupId, id, actorMemberId, body));
+    }
+
     public TransferResponseDto confirm(Long groupId, Long id, Long actorMemberId, TransferActionRequestDto body) {
         Transfer t = find(groupId, id);
 
@@ -138,21 +175,21 @@ public class TransferService {
             throw new SecurityException("받는 사람만 '확인' 처리할 수 있습니다.");
         }
 
-        if (t.getStatus() == TransferStatus.CONFIRMED) {
-            return TransferResponseDto.fromEntity(t); // 멱등
-        }
-        if (t.getStatus() != TransferStatus.SENT) {
-            throw new IllegalStateException("현재 상태에서는 '확인'으로 변경할 수 없습니다. (먼저 '보냈어요' 필요)");
-        }
-
-        t.setStatus(TransferStatus.CONFIRMED);
-        if (body != null && body.getMemo() != null) t.setMemo(body.getMemo());
-        t.setUpdatedAt(OffsetDateTime.now());
-
-        // 송금자에게 알림
-        notificationService.notifyConfirmed(t.getFromMemberId(), t.getId(), t.getAmount());
+        Transition tr = transition(groupId, t, TransferStatus.CONFIRMED, memoOf(body), cur -> {
+            if (cur.getStatus() == TransferStatus.CONFIRMED) {
+                return null; // 멱등
+            }
+            if (cur.getStatus() != TransferStatus.SENT) {
+                throw new IllegalStateException("현재 상태에서는 '확인'으로 변경할 수 없습니다. (먼저 '보냈어요' 필요)");
+            }
+            return List.of(TransferStatus.SENT);
+        });
 
-        return TransferResponseDto.fromEntity(t);
+        if (tr.changed()) {
+            // 송금자 알림 + 그룹 브로드캐스트 (커밋 이후)
+            events.publishEvent(TransferChangedEvent.of(TransferWsDto.Type.CONFIRMED, tr.transfer(), actorMemberId));
+        }
+        return TransferResponseDto.fromEntity(tr.transfer());
     }
 
     /**
@@ -160,32 +197,38 @@ public class TransferService {
      * - 보낸 사람(REQUESTED/SENT) 또는 관리자 가능
      * - CONFIRMED는 기본 불가(정책에 따라 관리자만 허용 가능)
      * - enum에 ROLLED_BACK이 없다면 REQUESTED로 되돌리는 정책으로 처리
+     * - 상태 기반 멱등이 아니므로(REQUESTED → REQUESTED 허용) 재시도 안전성은 Idempotency-Key 로 보장
      */
+    public TransferResponseDto rollback(Long groupId, Long id, Long actorMemberId,
+                                        TransferActionRequestDto body, boolean isAdmin, String idempotencyKey) {
+        return withIdempotency(actorMemberId, "rollback", id, idempotencyKey,
+                () -> rollback(groupId, id, actorMemberId, body, isAdmin));
+    }
+
     public TransferResponseDto rollback(Long groupId, Long id, Long actorMemberId,
                                         TransferActionRequestDto body, boolean isAdmin) {
         Transfer t = find(groupId, id);
 
-        boolean canSenderRollback =
-                Objects.equals(t.getFromMemberId(), actorMemberId) &&
-                        (t.getStatus() == TransferStatus.REQUESTED || t.getStatus() == TransferStatus.SENT);
-
-        if (!(isAdmin || canSenderRollback)) {
-            throw new SecurityException("롤백 권한이 없습니다.");
-        }
-
-        if (t.getStatus() == TransferStatus.CONFIRMED && !isAdmin) {
-            throw new IllegalStateException("CONFIRMED 상태는 관리자만 롤백 가능합니다.");
-        }
-
         // enum(ROLLED_BACK) 유무와 무관하게 일단 REQUESTED로 되돌리는 정책
-        t.setStatus(TransferStatus.REQUESTED);
-        if (body != null && body.getMemo() != null) t.setMemo(body.getMemo());
-        t.setUpdatedAt(OffsetDateTime.now());
+        Transition tr = transition(groupId, t, TransferStatus.REQUESTED, memoOf(body), cur -> {
+            boolean canSenderRollback =
+                    Objects.equals(cur.getFromMemberId(), actorMemberId) &&
+                            (cur.getStatus() == TransferStatus.REQUESTED || cur.getStatus() == TransferStatus.SENT);
 
-        // 알림 (양쪽 모두에게)
-        notificationService.notifyRolledBack(List.of(t.getFromMemberId(), t.getToMemberId()), t.getId(), t.getAmount());
+            if (!(isAdmin || canSenderRollback)) {
+                throw new SecurityException("롤백 권한이 없습니다.");
+            }
+            if (cur.getStatus() == TransferStatus.CONFIRMED && !isAdmin) {
+                throw new IllegalStateException("CONFIRMED 상태는 관리자만 롤백 가능합니다.");
+            }
+            return List.of(cur.getStatus());
+        });
 
-        return TransferResponseDto.fromEntity(t);
+        Transfer u = tr.transfer();
+        // 알림 (양쪽 모두에게) + 그룹 브로드캐스트 (커밋 이후)
+        events.publishEvent(TransferChangedEvent.of(TransferWsDto.Type.ROLLED_BACK, u, actorMemberId));
+
+        return TransferResponseDto.fromEntity(u);
     }
 
     /**
@@ -206,8 +249,8 @@ public class TransferService {
         if (body.getMemo() != null) t.setMemo(body.getMemo());
         t.setUpdatedAt(OffsetDateTime.now());
 
-        // 수신자에게 증빙 첨부 알림
-        notificationService.notifyProofAttached(t.getToMemberId(), t.getId(), t.getProofUrl());
+        // 수신자에게 증빙 첨부 알림 (커밋 이후)
+        events.publishEvent(TransferChangedEvent.of(TransferWsDto.Type.PROOF_ATTACHED, t, actorMemberId));
 
         return TransferResponseDto.fromEntity(t);
     }
@@ -230,7 +273,7 @@ public class TransferService {
                 : transfer.getFromMemberId();
 
         String message = String.format("📢 정산 보채기: %d원이 아직 처리되지 않았습니다.", transfer.getAmount());
-        notificationService.sendNudge(targetMemberId, message);
+        events.publishEvent(TransferChangedEvent.nudge(transfer, actorMemberId, targetMemberId, message));
     }
 
     /**
@@ -244,6 +287,53 @@ public class TransferService {
                 .toList();
     }
 
+    /**
+     * 송금 원장(내 기준) 키셋 페이지 조회
+     * - 정렬: 최신순(created_at DESC, id DESC)
+     * - statuses 가 비어 있으면 전체 상태
+     * - size: 기본 20, 최대 100
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TransferResponseDto> getLedgerForMember(
+            Long groupId, Long memberId, List<TransferStatus> statuses, Integer sizeParam, String cursor) {
+
+        int size = (sizeParam == null ? LEDGER_DEFAULT_SIZE : Math.max(1, Math.min(LEDGER_MAX_SIZE, sizeParam)));
+
+        List<String> statusNames = (statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(TransferStatus.class)
+                : EnumSet.copyOf(statuses))
+                .stream().map(Enum::name).toList();
+
+        // 첫 페이지는 (최대 시각, 최대 id) 보다 작은 것 = 전체
+        OffsetDateTime cursorCreatedAt = LEDGER_MAX_TIME;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                CursorUtils.Decoded d = CursorUtils.decode(cursor);
+                if (!LEDGER_SORT.equals(d.sortParam())) throw new IllegalArgumentException("sort mismatch");
+                cursorCreatedAt = OffsetDateTime.parse(d.key());
+                cursorId = d.id();
+            } catch (RuntimeException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        // size + 1 건을 읽어 다음 페이지 존재 여부 판단
+        List<Transfer> rows = transferRepository.findLedgerPage(
+                groupId, memberId, statusNames, cursorCreatedAt, cursorId, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<Transfer> page = hasNext ? rows.subList(0, size) : rows;
+
+        String next = null;
+        if (hasNext) {
+            Transfer last = page.get(page.size() - 1);
+            next = CursorUtils.encodeCreatedAt(LEDGER_SORT, last.getCreatedAt().toString(), last.getId());
+        }
+
+        return CursorPageResponse.of(page.stream().map(TransferResponseDto::fromEntity).toList(), next);
+    }
+
     /* ===========================
      * 내부 유틸
      * =========================== */
@@ -265,4 +355,88 @@ public class TransferService {
         return transferRepository.findFirstByIdAndGroupId(id, groupId)
                 .orElseThrow(() -> new EntityNotFoundException("Transfer not found"));
     }
+
+    private static String memoOf(TransferActionRequestDto body) {
+        return body != null ? body.getMemo() : null;
+    }
+
+    /**
+     * 현재 스냅샷을 보고 전이 가능 여부를 판정한다.
+     * - 전이 가능한 from 상태 집합을 반환 (조건부 UPDATE 의 WHERE 절로 사용)
+     * - 이미 목표 상태라면 null (멱등)
+     * - 전이 불가면 예외
+     */
+    @FunctionalInterface
+    private interface TransitionRule {
+        Collection<TransferStatus> allowedFrom(Transfer current);
+    }
+
+    private record Transition(Transfer transfer, boolean changed) {}
+
+    /**
+     * 조건부 UPDATE 기반 상태 전이 (행 잠금 없음).
+     * - 0건 갱신 = 경합 패배 → 재조회 후 규칙을 다시 적용해 최대 MAX_TRANSITION_ATTEMPTS 회 재시도
+     * - 상대가 이미 같은 목표로 바꿨다면 규칙이 null 을 돌려주므로 멱등 응답으로 수렴
+     */
+    private Transition transition(Long groupId, Transfer initial, TransferStatus to, String memo, TransitionRule rule) {
+        Transfer current = initial;
+        for (int attempt = 1; attempt <= MAX_TRANSITION_ATTEMPTS; attempt++) {
+            Collection<TransferStatus> from = rule.allowedFrom(current);
+            if (from == null) {
+                return new Transition(current, false);
+            }
+            int updated = transferRepository.transitionStatus(current.getId(), groupId, from, to, memo);
+            // clearAutomatically 로 영속성 컨텍스트가 비워졌으므로 재조회 시 최신 상태를 읽는다
+            current = find(groupId, current.getId());
+            if (updated == 1) {
+                return new Transition(current, true);
+            }
+            log.debug("[Transfers] transition race lost. id={}, to={}, attempt={}", current.getId(), to, attempt);
+        }
+        throw new ConflictException("동시에 처리 중인 요청이 있어 상태를 변경하지 못했습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    /**
+     * Idempotency-Key 처리
+     * - 키가 없으면 그대로 실행
+     * - 완료된 기록이 있으면 저장된 응답 반환
+     * - 처리 중(선점됨)이면 409
+     * - 커밋 성공 시 응답 저장, 롤백 시 선점 해제
+     */
+    private TransferResponseDto withIdempotency(Long actorMemberId, String action, Long transferId,
+                                                String idempotencyKey, Supplier<TransferResponseDto> body) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return body.get();
+        }
+        final String key = TransferIdempotencyStore.key(actorMemberId, action, transferId, idempotencyKey.trim());
+
+        Optional<TransferResponseDto> done = idempotencyStore.findCompleted(key);
+        if (done.isPresent()) return done.get();
+
+        if (!idempotencyStore.tryBegin(key)) {
+            done = idempotencyStore.findCompleted(key);
+            if (done.isPresent()) return done.get();
+            throw new ConflictException("동일한 요청이 이미 처리 중입니다.");
+        }
+
+        final TransferResponseDto res;
+        try {
+            res = body.get();
+        } catch (RuntimeException e) {
+            idempotencyStore.release(key);
+            throw e;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) idempotencyStore.complete(key, res);
+                    else idempotencyStore.release(key);
+                }
+            });
+        } else {
+            idempotencyStore.complete(key, res);
+        }
+        return res;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.gatieottae.backend.websocket;
 
-import com.gatieottae.backend.security.jwt.JwtTokenProvider;
+import com.gatieottae.backend.security.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.SimpMessageType;
@@ -15,10 +16,10 @@ import java.util.List;
 @Component
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
-    private final JwtTokenProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-    public StompAuthChannelInterceptor(JwtTokenProvider jwtProvider) {
-        this.jwtProvider = jwtProvider;
+    public StompAuthChannelInterceptor(VerifiedTokenCache verifiedTokenCache) {
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -34,12 +35,13 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
             String token = authHeader.substring(7);
 
-            if (!jwtProvider.validate(token)) {
+            Long memberId;
+            try {
+                memberId = verifiedTokenCache.verify(token).memberId(); // HTTP 필터와 같은 검증 캐시
+            } catch (JwtException | IllegalArgumentException e) {
                 throw new IllegalArgumentException("Invalid JWT token");
             }
 
-            Long memberId = jwtProvider.getMemberId(token);
-
             Principal user = new UsernamePasswordAuthenticationToken(
                     memberId, null, List.of() // 권한 필요 시 Role 추가
             );
@@ -0,0 +1,7 @@
+-- ============================================================
+-- transfer 낙관적 락(@Version) 컬럼
+--  - 보냈어요/확인/롤백 동시 요청 시 lost update 방지
+--  - 상태 전이는 조건부 UPDATE(WHERE status IN ...)로 수행하며 version 도 함께 증가
+-- ============================================================
+ALTER TABLE gatieottae.transfer
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
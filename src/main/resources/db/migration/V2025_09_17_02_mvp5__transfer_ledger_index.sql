@@ -0,0 +1,8 @@
+-- 송금 원장 키셋 페이징용 복합 인덱스
+-- - 내 송금 조회를 from/to 두 갈래 UNION ALL 로 나누고, 갈래마다 (created_at, id) 역순 스캔
+-- - 기존 idx_transfer_from_to(from_member_id, to_member_id)는 멱등 커밋 중복 조회가 사용하므로 유지
+CREATE INDEX IF NOT EXISTS idx_transfer_group_from_created
+    ON gatieottae.transfer (group_id, from_member_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transfer_group_to_created
+    ON gatieottae.transfer (group_id, to_member_id, created_at DESC, id DESC);
@@ -0,0 +1,5 @@
+-- expense / expense_share ID 시퀀스 풀링
+-- - JPA 가 SEQUENCE(allocationSize=50)로 ID 를 미리 확보 → IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있음
+-- - BIGSERIAL 기본 시퀀스를 그대로 쓰되 INCREMENT 만 50 으로 맞춘다 (컬럼 DEFAULT nextval 은 유지)
+ALTER SEQUENCE IF EXISTS gatieottae.expense_id_seq INCREMENT BY 50;
+ALTER SEQUENCE IF EXISTS gatieottae.expense_share_id_seq INCREMENT BY 50;
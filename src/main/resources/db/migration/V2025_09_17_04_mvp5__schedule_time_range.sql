@@ -0,0 +1,17 @@
+-- 일정 겹침 조회용 tstzrange 컬럼 + GiST 인덱스
+-- - time_range = [start_time, end_time)  (end_time 이 없으면 시작 시각 한 점)
+-- - 겹침 판정은 time_range && tstzrange(:from, :to) 로 GiST 인덱스 사용
+-- - group_id(bigint)를 같은 GiST 인덱스에 넣기 위해 btree_gist 필요 (PG13+ trusted extension)
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE gatieottae.schedule
+    ADD COLUMN IF NOT EXISTS time_range tstzrange
+        GENERATED ALWAYS AS (
+            CASE WHEN end_time IS NULL
+                 THEN tstzrange(start_time, start_time, '[]')
+                 ELSE tstzrange(start_time, end_time, '[)')
+            END
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_schedule_group_time_range
+    ON gatieottae.schedule USING gist (group_id, time_range);
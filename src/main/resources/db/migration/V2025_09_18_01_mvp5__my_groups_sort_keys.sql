@@ -0,0 +1,29 @@
+-- 내 그룹 목록(/api/me/groups) 정렬/검색/상태 필터용 생성 컬럼과 인덱스
+-- - 쿼리마다 COALESCE 식을 계산하던 정렬 키/상태 경계를 STORED 생성 컬럼으로 고정 → 인덱스 사용 가능
+-- - 상태 규칙(MyGroupsService.calcStatus 와 동일)
+--     before : status_begin > today
+--     during : status_begin <= today AND status_end >= today
+--     after  : status_end < today
+--   (시작/종료 모두 없으면 before, 시작만 없으면 이미 시작한 것으로 간주)
+
+ALTER TABLE gatieottae.travel_group
+    ADD COLUMN IF NOT EXISTS sort_start_asc  DATE GENERATED ALWAYS AS (COALESCE(start_date, DATE '9999-12-31')) STORED,
+    ADD COLUMN IF NOT EXISTS sort_start_desc DATE GENERATED ALWAYS AS (COALESCE(start_date, DATE '0001-01-01')) STORED,
+    ADD COLUMN IF NOT EXISTS sort_name       TEXT GENERATED ALWAYS AS (LOWER(name)) STORED,
+    ADD COLUMN IF NOT EXISTS status_begin    DATE GENERATED ALWAYS AS (
+        COALESCE(start_date, CASE WHEN end_date IS NULL THEN DATE '9999-12-31' ELSE DATE '0001-01-01' END)
+    ) STORED,
+    ADD COLUMN IF NOT EXISTS status_end      DATE GENERATED ALWAYS AS (COALESCE(end_date, start_date, DATE '9999-12-31')) STORED;
+
+-- 정렬 모드별 (키, id) 인덱스 — 키셋 커서 비교와 ORDER BY 가 같은 순서
+CREATE INDEX IF NOT EXISTS idx_travel_group_sort_start_asc  ON gatieottae.travel_group (sort_start_asc, id);
+CREATE INDEX IF NOT EXISTS idx_travel_group_sort_start_desc ON gatieottae.travel_group (sort_start_desc, id);
+CREATE INDEX IF NOT EXISTS idx_travel_group_sort_name       ON gatieottae.travel_group (sort_name, id);
+
+-- 부분 일치 검색(ILIKE '%q%')용 트라이그램 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_travel_group_name_trgm        ON gatieottae.travel_group USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_travel_group_destination_trgm ON gatieottae.travel_group USING gin (destination gin_trgm_ops);
+
+-- 회원 → 그룹 조회용 커버링 인덱스 (기존 UNIQUE(group_id, member_id)는 선두 컬럼이 달라 사용 불가)
+CREATE INDEX IF NOT EXISTS idx_travel_group_member_member_group ON gatieottae.travel_group_member (member_id, group_id);
@@ -0,0 +1,3 @@
+-- 초대코드 풀(InviteCodePool)은 DB 중복 확인 + UNIQUE 인덱스를 최종 방어선으로 사용
+-- (엔티티 @Index 로만 선언되어 있어 ddl-auto 를 끈 환경에서도 보장되도록 명시)
+CREATE UNIQUE INDEX IF NOT EXISTS ux_travel_group_invite_code ON gatieottae.travel_group (invite_code);
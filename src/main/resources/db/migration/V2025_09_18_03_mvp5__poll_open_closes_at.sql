@@ -0,0 +1,5 @@
+-- 투표 자동 마감(PollRepository.closeDue)용 부분 인덱스
+-- - OPEN 인 행만 담으므로 마감될수록 작아지고, (closes_at, id) 순서가 쿼리의 ORDER BY/LIMIT 와 같다
+CREATE INDEX IF NOT EXISTS ix_poll_open_closes_at
+    ON gatieottae.poll (closes_at, id)
+    WHERE status = 'OPEN';
@@ -0,0 +1,41 @@
+-- 마감된 투표 결과 스냅샷 (PollResult)
+-- - 마감 트랜잭션에서 한 번 INSERT 하고 이후 변하지 않음 → 조회는 스냅샷 + 장기 캐시로 처리 (poll_vote 재집계 없음)
+-- - winner_option_id: 단독 1위 옵션 (표가 없거나 공동 1위면 NULL)
+CREATE TABLE IF NOT EXISTS gatieottae.poll_result (
+    poll_id          BIGINT      PRIMARY KEY REFERENCES gatieottae.poll (id) ON DELETE CASCADE,
+    counts           JSONB       NOT NULL,
+    total_voters     INTEGER     NOT NULL,
+    winner_option_id BIGINT,
+    closed_at        TIMESTAMPTZ NOT NULL
+);
+
+-- 이미 마감된 투표 백필 (PollResultRepository.snapshot 과 같은 집계)
+WITH closed AS (
+    SELECT id, updated_at FROM gatieottae.poll WHERE status = 'CLOSED'
+), c AS (
+    SELECT o.poll_id, o.id AS option_id, COUNT(v.id) AS votes
+      FROM gatieottae.poll_option o
+      JOIN closed ON closed.id = o.poll_id
+      LEFT JOIN gatieottae.poll_vote v ON v.option_id = o.id
+     GROUP BY o.poll_id, o.id
+), r AS (
+    SELECT closed.id AS poll_id,
+           closed.updated_at,
+           COALESCE(jsonb_object_agg(c.option_id::text, c.votes) FILTER (WHERE c.option_id IS NOT NULL),
+                    '{}'::jsonb) AS counts,
+           COALESCE(SUM(c.votes), 0)::int AS total_voters,
+           COALESCE(MAX(c.votes), 0) AS top
+      FROM closed
+      LEFT JOIN c ON c.poll_id = closed.id
+     GROUP BY closed.id, closed.updated_at
+)
+INSERT INTO gatieottae.poll_result (poll_id, counts, total_voters, winner_option_id, closed_at)
+SELECT r.poll_id, r.counts, r.total_voters,
+       CASE WHEN r.top > 0 THEN (
+           SELECT CASE WHEN COUNT(*) = 1 THEN MIN(c.option_id) END
+             FROM c
+            WHERE c.poll_id = r.poll_id AND c.votes = r.top
+       ) END,
+       r.updated_at
+  FROM r
+ON CONFLICT (poll_id) DO NOTHING;
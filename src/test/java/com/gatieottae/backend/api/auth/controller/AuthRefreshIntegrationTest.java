@@ -5,7 +5,7 @@ import com.gatieottae.backend.api.auth.dto.RefreshDto;
 import com.gatieottae.backend.domain.member.Member;
 import com.gatieottae.backend.domain.member.MemberStatus;
 import com.gatieottae.backend.repository.member.MemberRepository;
-import com.gatieottae.backend.security.jwt.JwtTokenProvider;
+import com.gatieottae.backend.service.auth.RefreshTokenService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,6 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -29,7 +30,7 @@ class AuthRefreshIntegrationTest {
     @Autowired ObjectMapper om;
 
     @Autowired MemberRepository memberRepository;
-    @Autowired JwtTokenProvider jwtTokenProvider;
+    @Autowired RefreshTokenService refreshTokenService;
 
     private Member saveMember(String username, MemberStatus status) {
         Member m = Member.builder()
@@ -42,15 +43,15 @@ class AuthRefreshIntegrationTest {
     }
 
     private String makeRefresh(Member m) {
-        // ✅ 실제 Bean으로 refresh 토큰 발급
-        return jwtTokenProvider.generateRefreshToken(m.getUsername(), m.getId());
+        // ✅ 실제 Bean으로 refresh 토큰 발급 (패밀리 등록 포함)
+        return refreshTokenService.issue(m.getId(), m.getUsername());
     }
 
     @Nested
     class Success {
 
         @Test
-        @DisplayName("성공: 유효한 refreshToken → 200 OK + 새 accessToken 반환")
+        @DisplayName("성공: 유효한 refreshToken → 200 OK + 새 accessToken + 회전된 refreshToken 반환")
         void refresh_success() throws Exception {
             Member active = saveMember("alice", MemberStatus.ACTIVE);
             String refresh = makeRefresh(active);
@@ -64,7 +65,7 @@ class AuthRefreshIntegrationTest {
                     .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                     .andExpect(jsonPath("$.tokenType", is("Bearer")))
                     .andExpect(jsonPath("$.accessToken", not(emptyOrNullString())))
-                    .andExpect(jsonPath("$.refreshToken", is(refresh)));
+                    .andExpect(jsonPath("$.refreshToken", allOf(not(emptyOrNullString()), not(is(refresh)))));
         }
     }
 
@@ -93,6 +94,30 @@ class AuthRefreshIntegrationTest {
                     .andExpect(jsonPath("$.message", not(emptyOrNullString())));
         }
 
+        @Test
+        @DisplayName("실패: 이미 사용한(회전된) refreshToken 재사용 → 401")
+        void refresh_reused_token() throws Exception {
+            Member active = saveMember("carol", MemberStatus.ACTIVE);
+            String refresh = makeRefresh(active);
+            String body = om.writeValueAsString(new RefreshDto.RefreshRequest(refresh));
+
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/api/auth/refresh").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("실패: refreshToken 을 Bearer access 토큰으로 사용 → 보호된 API 401")
+        void refresh_token_as_bearer_rejected() throws Exception {
+            Member active = saveMember("dave", MemberStatus.ACTIVE);
+            String refresh = makeRefresh(active);
+
+            mockMvc.perform(get("/api/me/groups")
+                            .header("Authorization", "Bearer " + refresh))
+                    .andExpect(status().isUnauthorized());
+        }
+
         @Test
         @DisplayName("실패: 사용자 BLOCKED 상태 → 403")
         void refresh_blocked_user() throws Exception {
@@ -0,0 +1,74 @@
+package com.gatieottae.backend.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntervalTreeTest {
+
+    record Iv(String name, long start, Long end) {}
+
+    private static IntervalTree<Iv> tree(List<Iv> ivs) {
+        return IntervalTree.of(ivs, Iv::start, Iv::end);
+    }
+
+    @Test
+    void overlapping_uses_half_open_ranges() {
+        var a = new Iv("a", 10, 20L);
+        var b = new Iv("b", 20, 30L);   // a 와 경계만 맞닿음 → 겹침 아님
+        var c = new Iv("c", 15, 25L);
+        var t = tree(List.of(a, b, c));
+
+        assertThat(t.overlapping(19, 21)).containsExactly(a, c, b);
+        assertThat(t.overlapping(30, 40)).isEmpty();
+        assertThat(t.overlapping(0, 10)).isEmpty();
+    }
+
+    @Test
+    void clusters_group_chained_overlaps_and_skip_singletons() {
+        var a = new Iv("a", 0, 10L);
+        var b = new Iv("b", 5, 15L);
+        var c = new Iv("c", 14, 20L);   // b 와 겹침 → a,b,c 한 묶음
+        var d = new Iv("d", 20, 25L);   // 경계 맞닿음 → 단독
+        var e = new Iv("e", 30, 40L);
+        var f = new Iv("f", 35, 36L);
+        var g = new Iv("g", 37, null);  // 길이 0 → 제외
+
+        var clusters = tree(List.of(g, f, e, d, c, b, a)).clusters();
+
+        assertThat(clusters).hasSize(2);
+        assertThat(clusters.get(0).members()).containsExactly(a, b, c);
+        assertThat(clusters.get(0).start()).isEqualTo(0);
+        assertThat(clusters.get(0).end()).isEqualTo(20);
+        assertThat(clusters.get(1).members()).containsExactly(e, f);
+    }
+
+    @Test
+    void overlap_pairs_match_brute_force() {
+        Random rnd = new Random(42);
+        List<Iv> ivs = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long s = rnd.nextInt(10_000);
+            ivs.add(new Iv("i" + i, s, s + 1 + rnd.nextInt(200)));
+        }
+
+        Set<Set<String>> expected = new HashSet<>();
+        for (int i = 0; i < ivs.size(); i++) {
+            for (int j = i + 1; j < ivs.size(); j++) {
+                Iv x = ivs.get(i), y = ivs.get(j);
+                if (x.start() < y.end() && y.start() < x.end()) expected.add(Set.of(x.name(), y.name()));
+            }
+        }
+
+        Set<Set<String>> actual = new HashSet<>();
+        tree(ivs).overlapPairs().forEach(p -> actual.add(Set.of(p.a().name(), p.b().name())));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+}
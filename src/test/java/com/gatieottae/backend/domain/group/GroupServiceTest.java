@@ -2,8 +2,8 @@ package com.gatieottae.backend.domain.group;
 
 import com.gatieottae.backend.api.group.dto.GroupRequestDto;
 import com.gatieottae.backend.api.group.dto.GroupResponseDto;
-import com.gatieottae.backend.common.util.InviteCodeGenerator; // static 모킹 대상
 import com.gatieottae.backend.domain.group.exception.GroupException;
+import com.gatieottae.backend.infra.redis.InviteCodeCache;
 import com.gatieottae.backend.repository.group.GroupMemberRepository;
 import com.gatieottae.backend.repository.group.GroupRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +12,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -27,12 +26,11 @@ class GroupServiceTest {
 
     @Mock GroupRepository groupRepository;
     @Mock GroupMemberRepository groupMemberRepository;
+    @Mock GroupMembershipCache membershipCache;
+    @Mock GroupDetailService groupDetailService;
+    @Mock InviteCodePool inviteCodePool;   // 초대코드는 풀에서 꺼냄
+    @Mock InviteCodeCache inviteCodeCache;
 
-    // ⚠️ 현재 Service가 InviteCodeGenerator를 주입받는 형태라면 @InjectMocks 생성이 실패할 수 있어요.
-    //     - Service가 실제로 "static 메서드"를 호출(InviteCodeGenerator.generate(...))하고
-    //       필드 주입값을 쓰지 않는다면, 기본 생성자 혹은 필드 주입 없이도 돌아갑니다.
-    //     - 만약 생성자에서 꼭 필요하면 테스트에서 리플렉션으로 주입하거나,
-    //       Service 생성자를 (repo 2개만 받는) 오버로드로 하나 더 만드는 게 깔끔합니다.
     @InjectMocks GroupService sut;
 
     @Test
@@ -53,25 +51,21 @@ class GroupServiceTest {
             return g.toBuilder().id(100L).build();
         });
 
-        // ⭐ static 메서드 모킹
-        try (MockedStatic<InviteCodeGenerator> mocked = org.mockito.Mockito.mockStatic(InviteCodeGenerator.class)) {
-            mocked.when(() -> InviteCodeGenerator.generate(12)).thenReturn("CODE12345678");
+        given(inviteCodePool.take()).willReturn("CODE12345678");
 
-            GroupResponseDto res = sut.createGroup(ownerId, req);
+        GroupResponseDto res = sut.createGroup(ownerId, req);
 
-            assertThat(res.getId()).isEqualTo(100L);
-            assertThat(res.getName()).isEqualTo("제주도 힐링");
-            assertThat(res.getInviteCode()).isEqualTo("CODE12345678");
+        assertThat(res.getId()).isEqualTo(100L);
+        assertThat(res.getName()).isEqualTo("제주도 힐링");
+        assertThat(res.getInviteCode()).isEqualTo("CODE12345678");
 
-            InOrder io = inOrder(groupRepository, groupMemberRepository);
-            io.verify(groupRepository).existsByOwnerIdAndName(ownerId, "제주도 힐링");
-            io.verify(groupRepository).save(any(Group.class));
-            io.verify(groupMemberRepository).save(any(GroupMember.class));
-            io.verifyNoMoreInteractions();
+        InOrder io = inOrder(groupRepository, groupMemberRepository);
+        io.verify(groupRepository).existsByOwnerIdAndName(ownerId, "제주도 힐링");
+        io.verify(groupRepository).save(any(Group.class));
+        io.verify(groupMemberRepository).save(any(GroupMember.class));
+        io.verifyNoMoreInteractions();
 
-            // static 호출 검증(선택)
-            mocked.verify(() -> InviteCodeGenerator.generate(12), times(1));
-        }
+        then(inviteCodePool).should(times(1)).take();
     }
 
     @Test
@@ -81,16 +75,13 @@ class GroupServiceTest {
         GroupRequestDto req = new GroupRequestDto("중복", "desc", "부산", null, null);
         given(groupRepository.existsByOwnerIdAndName(ownerId, "중복")).willReturn(true);
 
-        assertThatThrownBy(() -> {
-            try (MockedStatic<InviteCodeGenerator> ignored = org.mockito.Mockito.mockStatic(InviteCodeGenerator.class)) {
-                sut.createGroup(ownerId, req);
-            }
-        }).isInstanceOf(GroupException.class);
+        assertThatThrownBy(() -> sut.createGroup(ownerId, req))
+                .isInstanceOf(GroupException.class);
 
-        // save / member 등록 호출 안 됨
+        // save / member 등록 / 코드 발급 호출 안 됨
         then(groupRepository).shouldHaveNoMoreInteractions();
         then(groupMemberRepository).shouldHaveNoInteractions();
-        // static 모킹은 verify 하지 않아도 됨(어차피 예외로 흐름 종료)
+        then(inviteCodePool).shouldHaveNoInteractions();
     }
 
     @Test
@@ -107,23 +98,21 @@ class GroupServiceTest {
             return g.toBuilder().id(id).build();
         });
 
-        try (MockedStatic<InviteCodeGenerator> mocked = org.mockito.Mockito.mockStatic(InviteCodeGenerator.class)) {
-            // 두 번 호출 → 서로 다른 값 리턴
-            mocked.when(() -> InviteCodeGenerator.generate(12))
-                    .thenReturn("CODE_A", "CODE_B");
+        // 두 번 호출 → 서로 다른 값 리턴
+        given(inviteCodePool.take()).willReturn("CODE_A", "CODE_B");
 
-            GroupResponseDto a = sut.createGroup(ownerA, req);
-            GroupResponseDto b = sut.createGroup(ownerB, req);
+        GroupResponseDto a = sut.createGroup(ownerA, req);
+        GroupResponseDto b = sut.createGroup(ownerB, req);
 
-            assertThat(a.getId()).isEqualTo(1L);
-            assertThat(b.getId()).isEqualTo(2L);
+        assertThat(a.getId()).isEqualTo(1L);
+        assertThat(b.getId()).isEqualTo(2L);
+        assertThat(a.getInviteCode()).isEqualTo("CODE_A");
+        assertThat(b.getInviteCode()).isEqualTo("CODE_B");
 
-            then(groupRepository).should(times(1)).existsByOwnerIdAndName(ownerA, "같은이름");
-            then(groupRepository).should(times(1)).existsByOwnerIdAndName(ownerB, "같은이름");
-            then(groupRepository).should(times(2)).save(any(Group.class));
-            then(groupMemberRepository).should(times(2)).save(any(GroupMember.class));
-
-            mocked.verify(() -> InviteCodeGenerator.generate(12), times(2));
-        }
+        then(groupRepository).should(times(1)).existsByOwnerIdAndName(ownerA, "같은이름");
+        then(groupRepository).should(times(1)).existsByOwnerIdAndName(ownerB, "같은이름");
+        then(groupRepository).should(times(2)).save(any(Group.class));
+        then(groupMemberRepository).should(times(2)).save(any(GroupMember.class));
+        then(inviteCodePool).should(times(2)).take();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.gatieottae.backend.infra.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ScheduleAttendanceCacheTest {
+
+    private static final long SCHEDULE_ID = 987_654_321L;
+
+    @Autowired ScheduleAttendanceCache cache;
+    @Autowired StringRedisTemplate redis;
+
+    @AfterEach
+    void cleanUp() {
+        cache.evict(SCHEDULE_ID);
+    }
+
+    @Test
+    @DisplayName("GOING 0명으로 적재된 일정의 첫 GOING → 새로 생긴 going/names 키도 TTL 을 가진다")
+    void first_going_after_empty_warm_up_sets_ttl() {
+        // given: GOING 없이 적재 (going ZSET / names 해시는 아직 없음)
+        cache.warmUp(SCHEDULE_ID, List.of(
+                new ScheduleAttendanceCache.Participant(1L, "INVITED", 1_000L, "앨리스")));
+        assertThat(redis.hasKey(ScheduleAttendanceKeys.goingKey(SCHEDULE_ID))).isFalse();
+
+        // when
+        cache.apply(SCHEDULE_ID, 1L, "GOING", 1_000L, "앨리스");
+
+        // then: counts 키와 같은 수준의 TTL (영구 키가 아님)
+        Long countsTtl = redis.getExpire(ScheduleAttendanceKeys.countsKey(SCHEDULE_ID));
+        Long goingTtl = redis.getExpire(ScheduleAttendanceKeys.goingKey(SCHEDULE_ID));
+        Long namesTtl = redis.getExpire(ScheduleAttendanceKeys.namesKey(SCHEDULE_ID));
+
+        assertThat(countsTtl).isPositive();
+        assertThat(goingTtl).isPositive().isLessThanOrEqualTo(countsTtl);
+        assertThat(namesTtl).isPositive().isLessThanOrEqualTo(countsTtl);
+    }
+}
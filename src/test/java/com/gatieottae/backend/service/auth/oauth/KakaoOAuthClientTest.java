@@ -0,0 +1,139 @@
+package com.gatieottae.backend.service.oauth;
+
+import com.gatieottae.backend.common.exception.BadRequestException;
+import com.gatieottae.backend.common.exception.ErrorCode;
+import com.gatieottae.backend.common.exception.ServiceUnavailableException;
+import com.gatieottae.backend.common.util.CircuitBreaker;
+import com.gatieottae.backend.config.KakaoOAuthProperties;
+import com.gatieottae.backend.config.WebClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로컬 스텁 서버(JDK HttpServer)로 카카오를 흉내 내 KakaoOAuthClient 를 검증
+ * - 정상 응답 / 4xx(잘못된 code) / 느린 응답(타임아웃 → 서킷 오픈)
+ */
+class KakaoOAuthClientTest {
+
+    private static final int FAILURE_THRESHOLD = 2;
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private KakaoOAuthClient client;
+
+    private final AtomicInteger tokenHits = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+    private volatile long tokenDelayMs = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/oauth/token", ex -> {
+            tokenHits.incrementAndGet();
+            sleep(tokenDelayMs);
+            respond(ex, tokenStatus, tokenStatus == 200
+                    ? "{\"access_token\":\"kakao-at\",\"token_type\":\"bearer\",\"expires_in\":21599}"
+                    : "{\"error\":\"invalid_grant\"}");
+        });
+        server.createContext("/v2/user/me", ex -> {
+            boolean authorized = "Bearer kakao-at".equals(ex.getRequestHeaders().getFirst("Authorization"));
+            respond(ex, authorized ? 200 : 401, authorized
+                    ? "{\"id\":1234,\"kakao_account\":{\"email\":\"a@b.c\",\"profile\":{\"nickname\":\"앨리스\"}}}"
+                    : "{\"code\":-401}");
+        });
+        server.start();
+
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        KakaoOAuthProperties props = new KakaoOAuthProperties(
+                "client-id", null, base + "/oauth/token", base + "/v2/user/me", "http://localhost/callback", "");
+
+        WebClientConfig config = new WebClientConfig();
+        connectionProvider = config.kakaoConnectionProvider(4, 8, 500);
+        client = new KakaoOAuthClient(props,
+                config.kakaoWebClient(connectionProvider, 500, 200),
+                new SimpleMeterRegistry(),
+                FAILURE_THRESHOLD, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @DisplayName("정상 응답이면 토큰 교환 후 사용자 정보를 가져온다")
+    void fetchUser_success() {
+        KakaoOAuthClient.KakaoUser user = client.fetchUser("code").block();
+
+        assertThat(user).isNotNull();
+        assertThat(user.getId()).isEqualTo(1234L);
+        assertThat(user.getKakao_account().getProfile().getNickname()).isEqualTo("앨리스");
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("카카오 4xx 는 401 로 변환하고 서킷 실패로 세지 않는다")
+    void fetchUser_invalidCode() {
+        tokenStatus = 400;
+
+        for (int i = 0; i < FAILURE_THRESHOLD + 1; i++) {
+            assertThatThrownBy(() -> client.fetchUser("bad-code").block())
+                    .isInstanceOf(BadRequestException.class)
+                    .extracting("code").isEqualTo(ErrorCode.UNAUTHORIZED);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답이 느리면 타임아웃 503, 연속 실패 후 서킷이 열려 카카오를 호출하지 않고 즉시 503")
+    void fetchUser_slowProvider_opensCircuit() {
+        tokenDelayMs = 1_000;
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            assertThatThrownBy(() -> client.fetchUser("code").block())
+                    .isInstanceOf(ServiceUnavailableException.class);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        int hitsWhenOpened = tokenHits.get();
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.fetchUser("code").block())
+                .isInstanceOf(ServiceUnavailableException.class)
+                .satisfies(e -> assertThat(((ServiceUnavailableException) e).retryAfterSeconds).isPositive());
+        assertThat(System.nanoTime() - started).isLessThan(100_000_000L); // 100ms: 네트워크 대기 없음
+        assertThat(tokenHits.get()).isEqualTo(hitsWhenOpened);
+    }
+
+    private static void respond(HttpExchange ex, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        ex.sendResponseHeaders(status, body.length);
+        ex.getResponseBody().write(body);
+        ex.close();
+    }
+
+    private static void sleep(long ms) {
+        if (ms <= 0) return;
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.gatieottae.backend.service.expense;
+
+import com.gatieottae.backend.api.expense.dto.ExpenseRequestDto.ShareDto;
+import com.gatieottae.backend.domain.expense.Expense;
+import com.gatieottae.backend.domain.expense.ExpenseShare;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpenseServiceMergeSharesTest {
+
+    private Expense expenseWithShares() {
+        Expense e = Expense.builder().id(1L).groupId(1L).title("숙소").amount(90_000L).paidBy(1L).paidAt(OffsetDateTime.now()).build();
+        e.addShare(ExpenseShare.builder().id(11L).memberId(1L).shareAmount(30_000L).build());
+        e.addShare(ExpenseShare.builder().id(12L).memberId(2L).shareAmount(30_000L).build());
+        e.addShare(ExpenseShare.builder().id(13L).memberId(3L).shareAmount(30_000L).build());
+        return e;
+    }
+
+    @Test
+    void same_shares_keep_existing_rows_untouched() {
+        Expense e = expenseWithShares();
+        List<ExpenseShare> before = List.copyOf(e.getShares());
+
+        ExpenseService.mergeShares(e, List.of(
+                new ShareDto(1L, 30_000L), new ShareDto(2L, 30_000L), new ShareDto(3L, 30_000L)));
+
+        // 같은 인스턴스(= 같은 행) 유지 → DELETE/INSERT 없음
+        assertThat(e.getShares()).containsExactlyElementsOf(before);
+    }
+
+    @Test
+    void merge_updates_changed_inserts_new_and_removes_missing() {
+        Expense e = expenseWithShares();
+        ExpenseShare member1 = e.getShares().get(0);
+
+        ExpenseService.mergeShares(e, List.of(
+                new ShareDto(1L, 40_000L),   // 변경
+                new ShareDto(2L, 30_000L),   // 유지
+                new ShareDto(4L, 20_000L))); // 신규, 3번은 제거
+
+        assertThat(e.getShares()).extracting(ExpenseShare::getMemberId).containsExactly(1L, 2L, 4L);
+        assertThat(e.getShares().get(0)).isSameAs(member1);
+        assertThat(member1.getShareAmount()).isEqualTo(40_000L);
+        assertThat(e.getShares().get(2).getId()).isNull();
+        assertThat(e.getShares().get(2).getExpense()).isSameAs(e);
+    }
+}
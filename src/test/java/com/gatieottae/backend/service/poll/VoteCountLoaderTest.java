@@ -0,0 +1,71 @@
+package com.gatieottae.backend.service.poll;
+
+import com.gatieottae.backend.infra.redis.VoteCacheService;
+import com.gatieottae.backend.repository.poll.PollVoteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class VoteCountLoaderTest {
+
+    @Test
+    void concurrent_misses_for_same_poll_are_loaded_once() throws Exception {
+        PollVoteRepository voteRepo = mock(PollVoteRepository.class);
+        VoteCacheService voteCache = mock(VoteCacheService.class);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VoteCountLoader sut = new VoteCountLoader(voteRepo, voteCache, registry);
+
+        int callers = 8;
+
+        // leader 는 집계 도중, 나머지 전원이 leader 의 future 를 기다리기 시작할 때까지 붙잡힌다
+        when(voteRepo.countByOptionIds(anyList())).thenAnswer(inv -> {
+            CompletableFuture<Map<Long, Long>> leader = sut.inFlight(1L);
+            awaitUntil(() -> leader.getNumberOfDependents() == callers - 1);
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{10L, 3L});
+            return rows;
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Map<Long, Long>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                long memberId = i;
+                results.add(pool.submit(() -> sut.load(1L, List.of(10L, 11L), null, memberId, null)));
+            }
+
+            for (Future<Map<Long, Long>> f : results) {
+                assertThat(f.get(10, TimeUnit.SECONDS)).containsEntry(10L, 3L).containsEntry(11L, 0L);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(voteRepo, times(1)).countByOptionIds(anyList());
+        verify(voteCache, times(1)).warmUp(eq(1L), anyMap(), any(), any(), any());
+        assertThat(registry.get("poll.counts.load").tag("result", "leader").counter().count()).isEqualTo(1);
+        assertThat(registry.get("poll.counts.load").tag("result", "coalesced").counter().count()).isEqualTo(callers - 1);
+    }
+
+    /** 조건이 참이 될 때까지 대기 (5초 넘으면 실패) */
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) throw new AssertionError("condition not met within 5s");
+            Thread.onSpinWait();
+        }
+    }
+}
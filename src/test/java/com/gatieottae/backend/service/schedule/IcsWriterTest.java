@@ -0,0 +1,39 @@
+package com.gatieottae.backend.service.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IcsWriterTest {
+
+    @Test
+    void escape_text_values() {
+        assertThat(IcsWriter.escape("a,b;c\\d\r\ne")).isEqualTo("a\\,b\\;c\\\\d\\ne");
+    }
+
+    @Test
+    void utc_format() {
+        assertThat(IcsWriter.utc(OffsetDateTime.parse("2025-09-07T05:40:00+09:00"))).isEqualTo("20250906T204000Z");
+    }
+
+    @Test
+    void fold_long_lines_without_splitting_multibyte_chars() {
+        String content = "SUMMARY:" + "성산일출봉 일출 ".repeat(10);
+
+        String folded = IcsWriter.fold(content);
+
+        String[] lines = folded.split("\r\n");
+        assertThat(lines.length).isGreaterThan(1);
+        for (String l : lines) {
+            assertThat(l.getBytes(StandardCharsets.UTF_8).length).isLessThanOrEqualTo(75);
+        }
+        for (int i = 1; i < lines.length; i++) {
+            assertThat(lines[i]).startsWith(" ");
+        }
+        // 펼치면 원문
+        assertThat(folded.replace("\r\n ", "")).isEqualTo(content);
+    }
+}
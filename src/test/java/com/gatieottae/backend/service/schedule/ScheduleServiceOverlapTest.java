@@ -0,0 +1,55 @@
+package com.gatieottae.backend.service.schedule;
+
+import com.gatieottae.backend.api.schedule.dto.ScheduleDto;
+import com.gatieottae.backend.domain.schedule.Schedule;
+import com.gatieottae.backend.repository.schedule.ScheduleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ScheduleServiceOverlapTest {
+
+    private static final long GROUP_ID = 900_001L;
+    private static final long CREATOR_ID = 1L;
+    private static final OffsetDateTime BASE = OffsetDateTime.parse("2025-10-01T10:00:00+09:00");
+
+    @Autowired ScheduleService scheduleService;
+    @Autowired ScheduleRepository scheduleRepo;
+
+    private Schedule save(String title, OffsetDateTime start, OffsetDateTime end) {
+        return scheduleRepo.saveAndFlush(Schedule.builder()
+                .groupId(GROUP_ID)
+                .title(title)
+                .startTime(start)
+                .endTime(end)
+                .createdBy(CREATOR_ID)
+                .build());
+    }
+
+    @Test
+    @DisplayName("end 없는(레거시) 일정 수정 → 시작 시각 한 점으로 겹침 판정 (이후 일정 전부와 겹치지 않음)")
+    void update_null_end_schedule_reports_point_overlaps_only() {
+        // given: 10:00 시작, 종료 없음
+        Schedule openEnded = save("레거시", BASE, null);
+        Schedule covering = save("오전 투어", BASE.minusHours(1), BASE.plusHours(1)); // 10:00 을 포함
+        save("점심", BASE.plusHours(2), BASE.plusHours(3));                          // 이후 일정
+        save("저녁", BASE.plusHours(8), BASE.plusHours(10));                         // 이후 일정
+
+        // when: 제목만 수정 (endTime 은 그대로 null)
+        ScheduleDto.CreateRes res = scheduleService.update(GROUP_ID, openEnded.getId(), CREATOR_ID,
+                new ScheduleDto.UpdateReq("레거시(수정)", null, null, null, null));
+
+        // then
+        assertThat(res.overlappedIds()).containsExactly(covering.getId());
+    }
+}
@@ -0,0 +1,140 @@
+package com.gatieottae.backend.service.transfer;
+
+import com.gatieottae.backend.api.transfer.dto.TransferResponseDto;
+import com.gatieottae.backend.domain.expense.Transfer;
+import com.gatieottae.backend.domain.expense.TransferStatus;
+import com.gatieottae.backend.infra.redis.TransferIdempotencyStore;
+import com.gatieottae.backend.repository.expense.TransferRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TransferServiceTransitionTest {
+
+    private static final long GROUP_ID = 1L;
+    private static final long TRANSFER_ID = 100L;
+    private static final long FROM = 10L;
+    private static final long TO = 20L;
+
+    TransferRepository repo;
+    ApplicationEventPublisher events;
+    TransferIdempotencyStore idempotencyStore;
+    TransferService sut;
+
+    /** DB 행의 현재 상태 (조건부 UPDATE 를 흉내 냄) */
+    final AtomicReference<TransferStatus> row = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        repo = mock(TransferRepository.class);
+        events = mock(ApplicationEventPublisher.class);
+        idempotencyStore = mock(TransferIdempotencyStore.class);
+        sut = new TransferService(repo, events, idempotencyStore);
+
+        // 조회: 항상 현재 행 상태의 새 스냅샷
+        when(repo.findFirstByIdAndGroupId(TRANSFER_ID, GROUP_ID)).thenAnswer(inv -> Optional.of(snapshot()));
+    }
+
+    private Transfer snapshot() {
+        return Transfer.builder()
+                .id(TRANSFER_ID).groupId(GROUP_ID)
+                .fromMemberId(FROM).toMemberId(TO)
+                .amount(10_000L)
+                .status(row.get())
+                .build();
+    }
+
+    /** UPDATE ... WHERE status IN (:from) — 현재 상태가 from 에 있으면 1건, 아니면 0건 */
+    private int conditionalUpdate(Collection<TransferStatus> from, TransferStatus to) {
+        synchronized (row) {
+            if (!from.contains(row.get())) return 0;
+            row.set(to);
+            return 1;
+        }
+    }
+
+    @Test
+    void repeated_transition_returns_idempotent_result_without_update_or_event() {
+        row.set(TransferStatus.SENT);
+
+        TransferResponseDto res = sut.markSent(GROUP_ID, TRANSFER_ID, FROM, null);
+
+        assertThat(res.getStatus()).isEqualTo(TransferStatus.SENT);
+        verify(repo, never()).transitionStatus(any(), any(), any(), any(), any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void transition_from_disallowed_state_is_rejected() {
+        // REQUESTED → CONFIRMED 는 '보냈어요' 를 거쳐야 함
+        row.set(TransferStatus.REQUESTED);
+
+        assertThatThrownBy(() -> sut.confirm(GROUP_ID, TRANSFER_ID, TO, null))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(row.get()).isEqualTo(TransferStatus.REQUESTED);
+        verify(repo, never()).transitionStatus(any(), any(), any(), any(), any());
+        verify(events, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void concurrent_transitions_produce_one_winner() throws Exception {
+        row.set(TransferStatus.REQUESTED);
+
+        // 두 요청 모두 REQUESTED 를 읽은 뒤에 UPDATE 를 내도록 맞춘다
+        CyclicBarrier bothRead = new CyclicBarrier(2);
+        doAnswer(inv -> {
+            bothRead.await(5, TimeUnit.SECONDS);
+            return conditionalUpdate(inv.getArgument(2), inv.getArgument(3));
+        }).when(repo).transitionStatus(eq(TRANSFER_ID), eq(GROUP_ID), anyCollection(), any(), any());
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<TransferResponseDto> a = pool.submit(() -> sut.markSent(GROUP_ID, TRANSFER_ID, FROM, null));
+            Future<TransferResponseDto> b = pool.submit(() -> sut.markSent(GROUP_ID, TRANSFER_ID, FROM, null));
+
+            // 둘 다 성공 응답(SENT)으로 수렴
+            assertThat(a.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(TransferStatus.SENT);
+            assertThat(b.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(TransferStatus.SENT);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // UPDATE 는 두 번 나갔지만 실제 전이와 알림은 승자 한 번
+        verify(repo, times(2)).transitionStatus(any(), any(), any(), any(), any());
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(events, times(1)).publishEvent(published.capture());
+        assertThat(published.getAllValues()).hasSize(1);
+        assertThat(row.get()).isEqualTo(TransferStatus.SENT);
+    }
+
+    @Test
+    void repeated_idempotency_key_returns_stored_response() {
+        row.set(TransferStatus.REQUESTED);
+        TransferResponseDto stored = TransferResponseDto.builder()
+                .id(TRANSFER_ID).groupId(GROUP_ID).status(TransferStatus.SENT).build();
+        when(idempotencyStore.findCompleted(anyString())).thenReturn(Optional.of(stored));
+
+        TransferResponseDto res = sut.markSent(GROUP_ID, TRANSFER_ID, FROM, null, "key-1");
+
+        assertThat(res).isSameAs(stored);
+        verify(repo, never()).findFirstByIdAndGroupId(any(), any());
+        verify(repo, never()).transitionStatus(any(), any(), any(), any(), any());
+        verifyNoInteractions(events);
+    }
+}